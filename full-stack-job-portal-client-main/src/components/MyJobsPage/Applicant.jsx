@@ -1,8 +1,8 @@
-import { useQuery } from "@tanstack/react-query";
+import { useInfiniteQuery } from "@tanstack/react-query";
 import axios from "axios";
 import React, { useEffect } from "react";
 import styled from "styled-components";
-import { buildApiUrl } from "../../utils/FetchHandlers";
+import { buildApiUrl, subscribeToApplicationEvents } from "../../utils/FetchHandlers";
 import LoadingComTwo from "../shared/LoadingComTwo";
 import Swal from "sweetalert2";
 
@@ -37,22 +37,37 @@ const Applicant = () => {
     const {
         isLoading,
         isError,
-        data: jobs,
+        data,
         error,
         refetch,
-    } = useQuery({
-        queryKey: ["my-jobs"],
-        queryFn: async () => {
+        fetchNextPage,
+        hasNextPage,
+        isFetchingNextPage,
+    } = useInfiniteQuery({
+        queryKey: ["applicant-jobs"],
+        queryFn: async ({ pageParam }) => {
+            const params = pageParam
+                ? `?cursor=${encodeURIComponent(pageParam)}`
+                : "";
             const response = await axios.get(
-                buildApiUrl(`/api/v1/application/applicant-jobs`),
+                buildApiUrl(`/api/v1/application/applicant-jobs${params}`),
                 { withCredentials: true }
             );
+            // Paged by cursor, newest jobs not yet applied to first
             return response?.data?.result;
         },
-        // Refetch every 5 seconds to keep data fresh
-        refetchInterval: 5000,
+        initialPageParam: "",
+        getNextPageParam: (lastPage) =>
+            lastPage?.hasMore ? lastPage.nextCursor : undefined,
+        // Changes are pushed over the event stream; this is only a fallback
+        refetchInterval: 60000,
     });
 
+    const jobs = data?.pages?.flatMap((page) => page?.content || []);
+
+    // Refetch when the server pushes an application event
+    useEffect(() => subscribeToApplicationEvents(() => refetch()), [refetch]);
+
     // Refetch when page becomes visible
     useEffect(() => {
         const handleVisibilityChange = () => {
@@ -119,6 +134,16 @@ const Applicant = () => {
                         })}
                     </tbody>
                 </table>
+                {hasNextPage && (
+                    <div className="load-more">
+                        <button
+                            disabled={isFetchingNextPage}
+                            onClick={() => fetchNextPage()}
+                        >
+                            {isFetchingNextPage ? "loading..." : "load more"}
+                        </button>
+                    </div>
+                )}
             </div>
         </Wrapper>
     );
@@ -194,6 +219,22 @@ const Wrapper = styled.section`
     .table .action-row .action {
         font-size: 21px;
     }
+    .load-more {
+        display: flex;
+        justify-content: center;
+        margin-top: 1rem;
+    }
+    .load-more button {
+        padding: 4px 14px;
+        border-radius: 4px;
+        color: var(--color-white);
+        background-color: var(--color-primary);
+        text-transform: capitalize;
+    }
+    .load-more button:disabled {
+        opacity: 0.6;
+        cursor: not-allowed;
+    }
     .action.view {
         color: #22d637;
     }
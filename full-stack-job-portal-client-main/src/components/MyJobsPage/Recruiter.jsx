@@ -4,7 +4,7 @@ import styled from "styled-components";
 import LoadingComTwo from "../shared/LoadingComTwo";
 
 import { useQuery, useMutation, useQueryClient } from "@tanstack/react-query";
-import { updateHandler, buildApiUrl } from "../../utils/FetchHandlers";
+import { updateHandler, buildApiUrl, subscribeToApplicationEvents } from "../../utils/FetchHandlers";
 import Swal from "sweetalert2";
 
 const Recruiter = () => {
@@ -26,10 +26,13 @@ const Recruiter = () => {
             );
             return response?.data?.result;
         },
-        // Refetch every 5 seconds to keep data fresh
-        refetchInterval: 5000,
+        // Changes are pushed over the event stream; this is only a fallback
+        refetchInterval: 60000,
     });
 
+    // Refetch when the server pushes an application event
+    useEffect(() => subscribeToApplicationEvents(() => refetch()), [refetch]);
+
     const queryClient = useQueryClient();
 
     // If backend didn't include jobPosition/jobCompany, fetch job details per application
@@ -57,7 +57,9 @@ const Job = () => {
             title: "Apply for Job",
             html: `
                 <div style="text-align: left;">
-                    <p style="margin-bottom: 10px;">Upload your resume (Optional - PDF or DOC)</p>
+                    <p style="margin-bottom: 10px;">${user?.resume
+                        ? "Upload a resume, or leave empty to use the one on your profile"
+                        : "Upload your resume (Optional - PDF or DOC)"}</p>
                     <input type="file" id="resume-input" accept=".pdf,.doc,.docx,application/pdf,application/msword,application/vnd.openxmlformats-officedocument.wordprocessingml.document" style="width: 100%;"/>
                 </div>
             `,
@@ -90,15 +92,17 @@ const Job = () => {
         try {
             const formData = new FormData();
             
+            // Without a new file, the profile resume is attached by reference on the server
+            const useProfileResume = !file && Boolean(user?.resume);
             if (file) {
                 formData.append("resume", file);
-            } else {
+            } else if (!useProfileResume) {
                 // Create an empty file if no file is selected
                 formData.append("resume", new File([], "resume.pdf", { type: "application/pdf" }));
             }
 
             const response = await axios.post(
-                buildApiUrl(`/api/v1/applications/apply?jobId=${id}`),
+                buildApiUrl(`/api/v1/applications/apply?jobId=${id}${useProfileResume ? "&useProfileResume=true" : ""}`),
                 formData,
                 {
                     withCredentials: true,
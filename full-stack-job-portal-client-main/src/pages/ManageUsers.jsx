@@ -9,8 +9,24 @@ import { getAllHandler, buildApiUrl } from "../utils/FetchHandlers";
 import { useQuery } from "@tanstack/react-query";
 import axios from "axios";
 
+const PAGE_SIZE = 25;
+
 const ManageUsers = () => {
     const { user: me } = useUserContext();
+    const [search, setSearch] = React.useState("");
+    const [query, setQuery] = React.useState("");
+    const [role, setRole] = React.useState("");
+    // Cursors of the pages before the current one; the last entry is the current page's cursor
+    const [cursors, setCursors] = React.useState([""]);
+    const cursor = cursors[cursors.length - 1];
+
+    const filterParams = () => {
+        const params = new URLSearchParams();
+        if (role) params.set("role", role);
+        if (query) params.set("q", query);
+        return params;
+    };
+
     const {
         isPending,
         isError,
@@ -18,19 +34,25 @@ const ManageUsers = () => {
         error,
         refetch,
     } = useQuery({
-        queryKey: ["users"],
-        queryFn: () =>
-            getAllHandler(buildApiUrl('/api/v1/users')),
+        queryKey: ["users", role, query, cursor],
+        queryFn: () => {
+            const params = filterParams();
+            params.set("size", PAGE_SIZE);
+            if (cursor) params.set("cursor", cursor);
+            return getAllHandler(buildApiUrl(`/api/v1/users?${params}`));
+        },
+        placeholderData: (previous) => previous,
     });
 
     React.useEffect(() => {
-        console.log("Users data:", users);
-        if (users?.result && users.result.length > 0) {
-            console.log("First user:", users.result[0]);
-            console.log("First user _id:", users.result[0]._id);
-            console.log("First user id:", users.result[0].id);
-        }
-    }, [users]);
+        const timer = setTimeout(() => {
+            setQuery(search.trim());
+            setCursors([""]);
+        }, 300);
+        return () => clearTimeout(timer);
+    }, [search]);
+
+    const userList = users?.result?.content || [];
 
     const updateUserModal = (id, role) => {
         Swal.fire({
@@ -202,28 +224,43 @@ const ManageUsers = () => {
         );
     }
 
-    if (users) {
-        console.log("Users data:", users);
-        console.log("Users result:", users?.result);
-        console.log("Users result length:", users?.result?.length);
-        console.log("Users type:", typeof users);
-        console.log("Full users object:", JSON.stringify(users, null, 2));
-    }
-
-    if (!users || !users?.result || !users?.result?.length) {
-        console.log("No users found. Users data:", users);
-        return (
-            <h2 className="text-lg md:text-3xl font-bold text-red-600 text-center mt-12">
-                -- User List is Empty --
-            </h2>
-        );
-    }
     return (
         <Wrapper>
             <div className="title-row">
                 Manage Users
                 <CiSquarePlus className="ml-1 text-xl md:text-2xl" />
             </div>
+            <div className="filter-row">
+                <input
+                    type="text"
+                    placeholder="Search by username or email"
+                    value={search}
+                    onChange={(e) => setSearch(e.target.value)}
+                />
+                <select
+                    value={role}
+                    onChange={(e) => {
+                        setRole(e.target.value);
+                        setCursors([""]);
+                    }}
+                >
+                    <option value="">All roles</option>
+                    <option value="ADMIN">Admin</option>
+                    <option value="RECRUITER">Recruiter</option>
+                    <option value="USER">User</option>
+                </select>
+                <a
+                    className="export"
+                    href={buildApiUrl(`/api/v1/users/export?${filterParams()}`)}
+                >
+                    export csv
+                </a>
+            </div>
+            {!userList.length ? (
+                <h2 className="text-lg md:text-3xl font-bold text-red-600 text-center mt-12">
+                    -- User List is Empty --
+                </h2>
+            ) : (
             <div className="content-row">
                 <table className="table">
                     <thead>
@@ -236,9 +273,9 @@ const ManageUsers = () => {
                         </tr>
                     </thead>
                     <tbody>
-                        {users?.result?.map((user, index) => {
-                            let i =
-                                index + 1 < 10 ? `0${index + 1}` : index + 1;
+                        {userList.map((user, index) => {
+                            const n = (cursors.length - 1) * PAGE_SIZE + index + 1;
+                            let i = n < 10 ? `0${n}` : n;
                             return (
                                 <tr key={user.id}>
                                     <td>{i}</td>
@@ -320,7 +357,24 @@ const ManageUsers = () => {
                         })}
                     </tbody>
                 </table>
+                <div className="pager">
+                    <button
+                        disabled={cursors.length === 1}
+                        onClick={() => setCursors(cursors.slice(0, -1))}
+                    >
+                        prev
+                    </button>
+                    <button
+                        disabled={!users?.result?.hasMore}
+                        onClick={() =>
+                            setCursors([...cursors, users.result.nextCursor])
+                        }
+                    >
+                        next
+                    </button>
+                </div>
             </div>
+            )}
         </Wrapper>
     );
 };
@@ -347,9 +401,48 @@ const Wrapper = styled.section`
         height: calc(2px + 0.1vw);
         background-color: var(--color-primary);
     }
+    .filter-row {
+        display: flex;
+        flex-wrap: wrap;
+        align-items: center;
+        gap: 12px;
+        margin-top: calc(2rem + 0.5vw);
+    }
+    .filter-row input,
+    .filter-row select {
+        padding: 6px 10px;
+        border: 1px solid #ddd;
+        border-radius: 4px;
+        font-size: 14px;
+    }
+    .filter-row .export {
+        padding: 6px 12px;
+        border-radius: 4px;
+        font-size: 14px;
+        color: var(--color-white);
+        background-color: var(--color-accent);
+        text-transform: capitalize;
+    }
     .content-row {
         overflow-x: auto;
-        margin-top: calc(2rem + 0.5vw);
+        margin-top: calc(1rem + 0.5vw);
+    }
+    .pager {
+        display: flex;
+        justify-content: flex-end;
+        column-gap: 12px;
+        margin-top: 1rem;
+    }
+    .pager button {
+        padding: 4px 12px;
+        border-radius: 4px;
+        color: var(--color-white);
+        background-color: var(--color-primary);
+        text-transform: capitalize;
+    }
+    .pager button:disabled {
+        opacity: 0.5;
+        cursor: not-allowed;
     }
     .table {
         border-collapse: collapse;
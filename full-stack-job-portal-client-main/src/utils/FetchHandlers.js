@@ -90,3 +90,19 @@ export const isCandidate = (user) => {
 export const getRoleErrorMessage = (actionName, requiredRole) => {
     return `You do not have permission to ${actionName}. Only ${requiredRole}s can perform this action.`;
 };
+
+// Subscribes to application events pushed by the server; returns an unsubscribe function.
+// EventSource reconnects on its own after network errors or server-side closes.
+export const subscribeToApplicationEvents = (onEvent) => {
+    const source = new EventSource(buildApiUrl("/api/v1/application/events"), { withCredentials: true });
+    const handler = (event) => {
+        try {
+            onEvent(JSON.parse(event.data));
+        } catch (e) {
+            // ignore malformed events
+        }
+    };
+    source.addEventListener("APPLICATION_CREATED", handler);
+    source.addEventListener("STATUS_CHANGED", handler);
+    return () => source.close();
+};
@@ -1,6 +1,7 @@
 package com.jobportal.applicationservice.config;
 
 import com.jobportal.applicationservice.dto.ApiResponse;
+import com.jobportal.applicationservice.service.JobServiceUnavailableException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -20,6 +21,14 @@ public class GlobalExceptionHandler {
                 .body(new ApiResponse<>(false, null, ex.getMessage()));
     }
 
+    @ExceptionHandler(JobServiceUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleJobServiceUnavailable(
+            JobServiceUnavailableException ex, WebRequest request) {
+        log.warn("Job service unavailable: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(new ApiResponse<>(false, null, "Job service is temporarily unavailable"));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> handleGlobalException(
             Exception ex, WebRequest request) {
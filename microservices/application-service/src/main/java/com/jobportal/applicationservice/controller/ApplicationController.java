@@ -3,15 +3,40 @@ package com.jobportal.applicationservice.controller;
 import com.jobportal.applicationservice.dto.ApiResponse;
 import com.jobportal.applicationservice.dto.ApplicationCountDTO;
 import com.jobportal.applicationservice.dto.ApplicationResponse;
+import com.jobportal.applicationservice.dto.ApplyTaskStatus;
+import com.jobportal.applicationservice.dto.AvailableJobsPage;
+import com.jobportal.applicationservice.dto.BulkStatusRequest;
+import com.jobportal.applicationservice.dto.BulkStatusResult;
+import com.jobportal.applicationservice.dto.FunnelAnalyticsDTO;
+import com.jobportal.applicationservice.dto.JobApplicationCountDTO;
+import com.jobportal.applicationservice.dto.JobPipelineDTO;
+import com.jobportal.applicationservice.dto.ResumeFile;
+import com.jobportal.applicationservice.dto.ResumeGcReport;
+import com.jobportal.applicationservice.service.ApplicationCounterService;
 import com.jobportal.applicationservice.service.ApplicationService;
+import com.jobportal.applicationservice.service.ApplyQueue;
+import com.jobportal.applicationservice.service.IdempotencyKeyInProgressException;
+import com.jobportal.applicationservice.service.JobServiceUnavailableException;
+import com.jobportal.applicationservice.service.ResumeGarbageCollector;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.net.URI;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -21,20 +46,38 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ApplicationController {
 
+    private static final int MAX_COUNT_BATCH_SIZE = 500;
+
     private final ApplicationService applicationService;
+    private final ApplicationCounterService counterService;
+    private final ResumeGarbageCollector resumeGarbageCollector;
+    private final ApplyQueue applyQueue;
 
     @PostMapping("/apply")
     public ResponseEntity<ApiResponse<ApplicationResponse>> applyForJob(
             @RequestHeader("X-USER-ID") String userId,
             @RequestParam String jobId,
-            @RequestParam(required = false) MultipartFile resume) {
+            @RequestParam(required = false) MultipartFile resume,
+            @RequestParam(defaultValue = "false") boolean useProfileResume,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            ApplicationResponse response = applicationService.applyForJob(userId, jobId, resume);
+            ApplicationResponse response = applicationService.applyForJob(userId, jobId, resume, useProfileResume, idempotencyKey);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(new ApiResponse<>(true, response, "Application submitted successfully"));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ApiResponse<>(false, null, e.getMessage()));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse<>(false, null, "You have already applied for this job"));
+        } catch (JobServiceUnavailableException e) {
+            log.warn("Apply rejected, job service unavailable: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .body(new ApiResponse<>(false, null, "Job service is temporarily unavailable, please try again shortly"));
+        } catch (IdempotencyKeyInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
         } catch (Exception e) {
             log.error("Apply for job error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -42,12 +85,61 @@ public class ApplicationController {
         }
     }
 
+    // Accepts the application for background processing; the returned id is the application's id
+    @PostMapping(value = "/apply", params = "async=true")
+    public ResponseEntity<ApiResponse<ApplyTaskStatus>> applyForJobAsync(
+            @RequestHeader("X-USER-ID") String userId,
+            @RequestParam String jobId,
+            @RequestParam(required = false) MultipartFile resume,
+            @RequestParam(defaultValue = "false") boolean useProfileResume) {
+        try {
+            ApplyTaskStatus status = applyQueue.enqueue(userId, jobId, resume, useProfileResume);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .location(URI.create("/api/v1/application/apply-requests/" + status.getId()))
+                    .body(new ApiResponse<>(true, status, "Application accepted for processing"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
+        } catch (DuplicateKeyException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse<>(false, null, "You have already applied for this job"));
+        } catch (Exception e) {
+            log.error("Queue application error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to submit application"));
+        }
+    }
+
+    @GetMapping("/apply-requests/{id}")
+    public ResponseEntity<ApiResponse<ApplyTaskStatus>> getApplyRequest(
+            @RequestHeader("X-USER-ID") String userId,
+            @PathVariable String id) {
+        try {
+            return applyQueue.getStatus(id, userId)
+                    .map(status -> ResponseEntity.ok(new ApiResponse<>(true, status, "Apply request retrieved successfully")))
+                    .orElseGet(() -> ResponseEntity.status(HttpStatus.NOT_FOUND)
+                            .body(new ApiResponse<>(false, null, "Apply request not found")));
+        } catch (Exception e) {
+            log.error("Get apply request error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve apply request"));
+        }
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getMyApplications(
-            @RequestHeader("X-USER-ID") String userId) {
+            @RequestHeader("X-USER-ID") String userId,
+            WebRequest webRequest) {
         try {
+            String etag = applicationService.getApplicantApplicationsTag(userId);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
             List<ApplicationResponse> applications = applicationService.getApplicantApplications(userId);
-            return ResponseEntity.ok(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
         } catch (Exception e) {
             log.error("Get applications error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -55,14 +147,33 @@ public class ApplicationController {
         }
     }
 
+    // Long-lived stream of APPLICATION_CREATED / STATUS_CHANGED events for the caller's applications,
+    // as applicant or as recruiter; clients refetch on an event instead of polling
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamEvents(@RequestHeader("X-USER-ID") String userId) {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                // Stops buffering reverse proxies from holding events back
+                .header("X-Accel-Buffering", "no")
+                .body(applicationService.subscribeToEvents(userId));
+    }
+
     @GetMapping("/recruiter")
     public ResponseEntity<ApiResponse<Page<ApplicationResponse>>> getRecruiterApplications(
             @RequestHeader("X-USER-ID") String recruiterId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         try {
+            String etag = applicationService.getRecruiterApplicationsTag(recruiterId, page, size);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
             Page<ApplicationResponse> applications = applicationService.getRecruiterApplications(recruiterId, page, size);
-            return ResponseEntity.ok(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
         } catch (Exception e) {
             log.error("Get recruiter applications error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -70,12 +181,93 @@ public class ApplicationController {
         }
     }
 
+    @GetMapping("/recruiter/pipeline")
+    public ResponseEntity<ApiResponse<Page<JobPipelineDTO>>> getRecruiterPipeline(
+            @RequestHeader("X-USER-ID") String recruiterId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "5") int recent) {
+        try {
+            Page<JobPipelineDTO> pipeline = applicationService.getRecruiterPipeline(
+                    recruiterId, Math.max(page, 0), Math.min(Math.max(size, 1), 50), Math.min(Math.max(recent, 1), 20));
+            return ResponseEntity.ok(new ApiResponse<>(true, pipeline, "Pipeline retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Get recruiter pipeline error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve pipeline"));
+        }
+    }
+
+    @GetMapping("/recruiter/jobs/{jobId}/export")
+    public ResponseEntity<?> exportJobApplications(
+            @RequestHeader("X-USER-ID") String recruiterId,
+            @PathVariable String jobId) {
+        try {
+            if (!applicationService.hasApplicationsForJob(recruiterId, jobId)) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body(new ApiResponse<>(false, null, "No applications found for this job"));
+            }
+            StreamingResponseBody body = out -> applicationService.exportJobApplications(recruiterId, jobId, out);
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename("applications-" + jobId + ".zip").build().toString())
+                    .contentType(MediaType.parseMediaType("application/zip"))
+                    .cacheControl(CacheControl.noStore())
+                    .body(body);
+        } catch (Exception e) {
+            log.error("Export job applications error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to export applications"));
+        }
+    }
+
+    @GetMapping("/recruiter/analytics")
+    public ResponseEntity<ApiResponse<FunnelAnalyticsDTO>> getRecruiterAnalytics(
+            @RequestHeader("X-USER-ID") String recruiterId,
+            @RequestParam(required = false) String jobId) {
+        try {
+            FunnelAnalyticsDTO analytics = applicationService.getRecruiterAnalytics(recruiterId, jobId);
+            return ResponseEntity.ok(new ApiResponse<>(true, analytics, "Analytics retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Get recruiter analytics error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve analytics"));
+        }
+    }
+
+    @GetMapping("/recruiter/search")
+    public ResponseEntity<ApiResponse<List<ApplicationResponse>>> searchCandidates(
+            @RequestHeader("X-USER-ID") String recruiterId,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<ApplicationResponse> applications = applicationService.searchRecruiterCandidates(
+                    recruiterId, q, Math.min(limit, 100));
+            return ResponseEntity.ok(new ApiResponse<>(true, applications, "Candidates retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Search candidates error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to search candidates"));
+        }
+    }
+
     @GetMapping("/recruiter-applications")
     public ResponseEntity<ApiResponse<List<ApplicationResponse>>> getRecruiterApplicationsList(
-            @RequestHeader("X-USER-ID") String recruiterId) {
+            @RequestHeader("X-USER-ID") String recruiterId,
+            WebRequest webRequest) {
         try {
+            String etag = applicationService.getRecruiterApplicationsListTag(recruiterId);
+            if (webRequest.checkNotModified(etag)) {
+                return notModified(etag);
+            }
             List<ApplicationResponse> applications = applicationService.getRecruiterApplicationsList(recruiterId);
-            return ResponseEntity.ok(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(new ApiResponse<>(true, applications, "Applications retrieved successfully"));
         } catch (Exception e) {
             log.error("Get recruiter applications list error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -84,11 +276,17 @@ public class ApplicationController {
     }
 
     @GetMapping("/applicant-jobs")
-    public ResponseEntity<ApiResponse<List<?>>> getApplicantJobs(
-            @RequestHeader("X-USER-ID") String userId) {
+    public ResponseEntity<ApiResponse<AvailableJobsPage>> getApplicantJobs(
+            @RequestHeader("X-USER-ID") String userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         try {
-            List<?> jobs = applicationService.getAvailableJobsForApplicant(userId);
+            AvailableJobsPage jobs = applicationService.getAvailableJobsForApplicant(
+                    userId, cursor, Math.min(Math.max(size, 1), 100));
             return ResponseEntity.ok(new ApiResponse<>(true, jobs, "Jobs retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
         } catch (Exception e) {
             log.error("Get applicant jobs error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -96,6 +294,24 @@ public class ApplicationController {
         }
     }
 
+    @PatchMapping("/bulk-status")
+    public ResponseEntity<ApiResponse<BulkStatusResult>> updateApplicationStatuses(
+            @RequestHeader("X-USER-ID") String userId,
+            @RequestBody BulkStatusRequest request) {
+        try {
+            BulkStatusResult result = applicationService.updateApplicationStatuses(
+                    userId, request.getIds(), request.getStatus());
+            return ResponseEntity.ok(new ApiResponse<>(true, result, "Application statuses updated"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
+        } catch (Exception e) {
+            log.error("Bulk update application status error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to update applications"));
+        }
+    }
+
     @PatchMapping("/{id}")
     public ResponseEntity<ApiResponse<ApplicationResponse>> updateApplicationStatus(
             @PathVariable String id,
@@ -116,16 +332,27 @@ public class ApplicationController {
     }
 
     @GetMapping("/{id}/download-resume")
-    public ResponseEntity<?> downloadResume(@PathVariable String id) {
+    public ResponseEntity<?> downloadResume(@PathVariable String id, WebRequest webRequest) {
         try {
-            byte[] data = applicationService.getResumeBytes(id);
-            org.springframework.core.io.ByteArrayResource resource = new org.springframework.core.io.ByteArrayResource(data);
+            ResumeFile resume = applicationService.getResume(id);
+            CacheControl cacheControl = CacheControl.maxAge(Duration.ofHours(1)).cachePrivate();
+            if (webRequest.checkNotModified(resume.getEtag(), resume.getLastModified())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(resume.getEtag())
+                        .cacheControl(cacheControl)
+                        .build();
+            }
 
+            // File-backed body: streamed from disk, and Range requests are answered with 206 regions
             return ResponseEntity.ok()
-                    .header(org.springframework.http.HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=resume")
-                    .contentLength(data.length)
-                    .contentType(org.springframework.http.MediaType.APPLICATION_OCTET_STREAM)
-                    .body(resource);
+                    .header(HttpHeaders.CONTENT_DISPOSITION,
+                            ContentDisposition.attachment().filename(resume.getFileName()).build().toString())
+                    .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                    .contentType(MediaType.parseMediaType(resume.getContentType()))
+                    .eTag(resume.getEtag())
+                    .lastModified(resume.getLastModified())
+                    .cacheControl(cacheControl)
+                    .body(new FileSystemResource(resume.getPath()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(new ApiResponse<>(false, null, e.getMessage()));
         } catch (Exception e) {
@@ -134,6 +361,48 @@ public class ApplicationController {
         }
     }
 
+    @PostMapping("/job-counts")
+    public ResponseEntity<ApiResponse<List<JobApplicationCountDTO>>> getJobApplicationCounts(
+            @RequestBody List<String> jobIds) {
+        if (jobIds.size() > MAX_COUNT_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, null, "At most " + MAX_COUNT_BATCH_SIZE + " jobs per request"));
+        }
+        try {
+            List<JobApplicationCountDTO> counts = counterService.getCounts(jobIds);
+            return ResponseEntity.ok(new ApiResponse<>(true, counts, "Application counts retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Get job application counts error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve application counts"));
+        }
+    }
+
+    @GetMapping("/admin/resume-gc")
+    public ResponseEntity<ApiResponse<ResumeGcReport>> getResumeGcReport(
+            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole) {
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse<>(false, null, "Only admins can access this resource"));
+        }
+        return ResponseEntity.ok(new ApiResponse<>(true, resumeGarbageCollector.getLastReport(), "Resume GC report retrieved"));
+    }
+
+    @PostMapping("/admin/resume-gc")
+    public ResponseEntity<ApiResponse<Void>> triggerResumeGc(
+            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole) {
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse<>(false, null, "Only admins can access this resource"));
+        }
+        if (!resumeGarbageCollector.trigger()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(new ApiResponse<>(false, null, "Resume GC is already running"));
+        }
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(new ApiResponse<>(true, null, "Resume GC started"));
+    }
+
     @GetMapping("/internal/counts")
     public ResponseEntity<ApplicationCountDTO> getApplicationCounts() {
         try {
@@ -144,4 +413,11 @@ public class ApplicationController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .build();
+    }
 }
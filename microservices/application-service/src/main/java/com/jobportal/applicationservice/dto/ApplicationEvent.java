@@ -0,0 +1,17 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplicationEvent {
+    // APPLICATION_CREATED, STATUS_CHANGED or APPLY_FAILED (queued apply gave up)
+    private String type;
+    private String applicationId;
+    private String jobId;
+    private String status;
+    private String occurredAt;
+}
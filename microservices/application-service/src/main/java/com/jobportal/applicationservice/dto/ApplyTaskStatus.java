@@ -0,0 +1,21 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApplyTaskStatus {
+    // Also the id of the application once it is created
+    private String id;
+    private String jobId;
+    private String state;
+    private int attempts;
+    private String error;
+    private String createdAt;
+    private String updatedAt;
+    // Present once the task has SUCCEEDED
+    private ApplicationResponse application;
+}
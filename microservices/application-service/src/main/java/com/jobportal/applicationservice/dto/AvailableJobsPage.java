@@ -0,0 +1,16 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableJobsPage {
+    private List<Map<String, Object>> content;
+    private String nextCursor;
+    private boolean hasMore;
+}
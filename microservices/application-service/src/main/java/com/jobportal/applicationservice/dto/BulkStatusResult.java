@@ -0,0 +1,23 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+    private String status;
+    private long updated;
+    private List<Outcome> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private String id;
+        private String outcome; // UPDATED, UNCHANGED, NOT_FOUND, FORBIDDEN, CONFLICT
+    }
+}
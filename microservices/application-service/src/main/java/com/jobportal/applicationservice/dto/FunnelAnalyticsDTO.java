@@ -0,0 +1,19 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelAnalyticsDTO {
+    private String recruiterId;
+    private String jobId;
+    private List<FunnelStageDTO> stages;
+    private Map<String, Long> transitions;
+    private Double acceptanceRate; // accepted / decided
+    private String updatedAt;
+}
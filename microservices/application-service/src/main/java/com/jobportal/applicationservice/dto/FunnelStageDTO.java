@@ -0,0 +1,16 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FunnelStageDTO {
+    private String stage;
+    private long entered;
+    private long exited;
+    private Long medianSecondsInStage;
+    private Long p90SecondsInStage;
+}
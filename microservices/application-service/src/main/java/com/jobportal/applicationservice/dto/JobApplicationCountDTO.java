@@ -0,0 +1,16 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobApplicationCountDTO {
+    private String jobId;
+    private long total;
+    private long pending;
+    private long accepted;
+    private long rejected;
+}
@@ -0,0 +1,22 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPipelineDTO {
+    private String jobId;
+    private String jobTitle;
+    private String jobPosition;
+    private String jobCompany;
+    private long pending;
+    private long accepted;
+    private long rejected;
+    private long total;
+    private String latestAppliedAt;
+    private List<ApplicationResponse> recentApplications;
+}
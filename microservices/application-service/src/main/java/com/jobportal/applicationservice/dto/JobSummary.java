@@ -0,0 +1,18 @@
+package com.jobportal.applicationservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class JobSummary {
+    private String id;
+    private String title;
+    private String position;
+    private String company;
+    private String createdBy;
+}
@@ -0,0 +1,19 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeFile {
+    private Path path;
+    private String fileName;
+    private String contentType;
+    private String etag;
+    private long size;
+    private long lastModified;
+}
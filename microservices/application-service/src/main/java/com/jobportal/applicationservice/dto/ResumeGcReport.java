@@ -0,0 +1,19 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeGcReport {
+    private String startedAt;
+    private String finishedAt;
+    private String status; // RUNNING, COMPLETED, ABORTED
+    private long referencedPaths;
+    private long scannedFiles;
+    private long deletedFiles;
+    private long reclaimedBytes;
+    private String message;
+}
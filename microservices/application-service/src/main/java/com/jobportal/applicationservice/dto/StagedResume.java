@@ -0,0 +1,22 @@
+package com.jobportal.applicationservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.nio.file.Path;
+
+/**
+ * An uploaded resume written to a temp file but not yet visible under its final name,
+ * or (with no temp file) a reference to a resume that is already stored.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StagedResume {
+    private Path tempFile;
+    private String hash;
+    private String extension;
+    private long size;
+    private String resumePath;
+}
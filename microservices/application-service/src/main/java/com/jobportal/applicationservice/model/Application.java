@@ -9,13 +9,16 @@ import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "applications")
 @CompoundIndexes({
-    @CompoundIndex(name = "job_applicant_idx", def = "{'jobId': 1, 'applicantId': 1}", unique = true)
+    @CompoundIndex(name = "job_applicant_idx", def = "{'jobId': 1, 'applicantId': 1}", unique = true),
+    @CompoundIndex(name = "recruiter_job_status_idx", def = "{'recruiterId': 1, 'jobId': 1, 'status': 1}")
 })
 public class Application {
 
@@ -35,10 +38,18 @@ public class Application {
 
     private String resumePath;
 
+    private JobSnapshot jobSnapshot;
+
+    private List<StatusChange> statusHistory;
+
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
 
+    // Set on queued inserts until counters, rollups, indexing and the created event have run;
+    // cleared with a conditional update so a worker re-run after a lost lease runs them exactly once
+    private Boolean createdEffectsPending;
+
     public Application(String jobId, String applicantId, String recruiterId, 
                        String resumePath) {
         this.jobId = jobId;
@@ -47,6 +58,7 @@ public class Application {
         this.status = "PENDING";
         this.resumePath = resumePath;
         this.createdAt = LocalDateTime.now();
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+        this.statusHistory = new ArrayList<>(List.of(new StatusChange(this.status, this.createdAt)));
     }
 }
@@ -0,0 +1,59 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * An accepted but not yet processed apply request. The id is the id the application
+ * will be inserted with, so clients can poll for it as soon as the request is acknowledged.
+ * The resume is already on the uploads volume as a temp file; the worker commits it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "apply_tasks")
+public class ApplyTask {
+
+    @Id
+    private String id;
+
+    private String userId;
+
+    private String jobId;
+
+    private String state; // QUEUED, PROCESSING, SUCCEEDED, FAILED
+
+    // Set while QUEUED or PROCESSING; a partial unique index on {userId, jobId, active} keeps one live task per job
+    private Boolean active;
+
+    // Resolved by the worker, so the request itself makes no call to user-service
+    private boolean useProfileResume;
+
+    private String resumeTempFile;
+
+    private String resumeHash;
+
+    private String resumeExtension;
+
+    private long resumeSize;
+
+    private String resumePath;
+
+    private int attempts;
+
+    private String error;
+
+    // When QUEUED, the earliest retry time; when PROCESSING, the end of the worker's lease
+    private Date nextAttemptAt;
+
+    private Date createdAt;
+
+    private Date updatedAt;
+
+    // Set once the task is finished; a TTL index removes it after that
+    private Date expiresAt;
+}
@@ -0,0 +1,35 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Incrementally maintained funnel for one job ("job:<jobId>") or one recruiter
+ * ("recruiter:<recruiterId>"). Every map is a set of counters updated with $inc.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "funnel_rollups")
+public class FunnelRollup {
+
+    @Id
+    private String id;
+
+    private String recruiterId;
+
+    private String jobId; // null for recruiter-wide rollups
+
+    private Map<String, Long> entered; // stage -> applications that reached it
+
+    private Map<String, Long> transitions; // "PENDING_TO_ACCEPTED" -> count
+
+    private Map<String, Map<String, Long>> timeInStage; // stage -> duration sketch buckets
+
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,29 @@
+package com.jobportal.applicationservice.model;
+
+import com.jobportal.applicationservice.dto.ApplicationResponse;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.util.Date;
+
+/**
+ * Outcome of a request sent with an Idempotency-Key. The id is scoped to the caller
+ * ("userId:key"); documents expire through a TTL index on createdAt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "idempotency_keys")
+public class IdempotencyRecord {
+
+    @Id
+    private String id;
+
+    private String requestFingerprint;
+
+    private ApplicationResponse response; // null while the original request is still running
+
+    private Date createdAt;
+}
@@ -0,0 +1,32 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+/**
+ * Per-job application counts, maintained with $inc as applications are created
+ * and change status. The id is the jobId.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "job_application_counters")
+public class JobApplicationCounter {
+
+    @Id
+    private String id;
+
+    private long total;
+
+    private long pending;
+
+    private long accepted;
+
+    private long rejected;
+
+    private LocalDateTime updatedAt;
+}
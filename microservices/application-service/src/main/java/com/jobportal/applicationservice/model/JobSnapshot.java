@@ -0,0 +1,24 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Job summary fields copied onto an application when it is created,
+ * so application reads never need to call job-service.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSnapshot {
+
+    private String title;
+
+    private String position;
+
+    private String company;
+
+    private LocalDateTime capturedAt;
+}
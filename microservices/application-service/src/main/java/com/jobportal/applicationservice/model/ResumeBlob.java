@@ -0,0 +1,32 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+/**
+ * Content-addressed resume file. The id is the SHA-256 of the content. There is no reference
+ * count: the resume GC decides liveness by marking every path still referenced.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "resume_blobs")
+public class ResumeBlob {
+
+    @Id
+    private String id;
+
+    private String path;
+
+    private long size;
+
+    private String contentType;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime lastRetainedAt;
+}
@@ -0,0 +1,30 @@
+package com.jobportal.applicationservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+
+/**
+ * Extracted resume text for one application, searchable per recruiter
+ * through the compound {recruiterId, text} text index.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "resume_texts")
+public class ResumeText {
+
+    @Id
+    private String id; // application id
+
+    private String recruiterId;
+
+    private String jobId;
+
+    private String text;
+
+    private LocalDateTime extractedAt;
+}
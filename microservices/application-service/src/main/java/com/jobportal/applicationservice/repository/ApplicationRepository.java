@@ -18,6 +18,18 @@ public interface ApplicationRepository extends MongoRepository<Application, Stri
 
     Page<Application> findByRecruiterId(String recruiterId, Pageable pageable);
 
+    @Query(value = "{ 'applicantId': ?0 }", fields = "{ 'status': 1, 'updatedAt': 1, 'jobSnapshot': 1 }")
+    List<Application> findVersionsByApplicantId(String applicantId);
+
+    @Query(value = "{ 'recruiterId': ?0 }", fields = "{ 'status': 1, 'updatedAt': 1, 'jobSnapshot': 1 }")
+    List<Application> findVersionsByRecruiterId(String recruiterId);
+
+    @Query(value = "{ 'applicantId': ?0 }", fields = "{ 'jobId': 1 }")
+    List<Application> findJobIdsByApplicantId(String applicantId);
+
+    @Query(value = "{ 'recruiterId': ?0 }", fields = "{ 'status': 1, 'updatedAt': 1, 'jobSnapshot': 1 }")
+    Page<Application> findVersionsByRecruiterId(String recruiterId, Pageable pageable);
+
     Optional<Application> findByJobIdAndApplicantId(String jobId, String applicantId);
 
     long countByStatus(String status);
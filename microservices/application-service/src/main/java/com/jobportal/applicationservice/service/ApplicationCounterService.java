@@ -0,0 +1,235 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.JobApplicationCountDTO;
+import com.jobportal.applicationservice.enums.ApplicationStatus;
+import com.jobportal.applicationservice.model.Application;
+import com.jobportal.applicationservice.model.JobApplicationCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps one counter document per job so applicant counts are a keyed read instead of
+ * a count query per job. Writes are single $inc upserts; the periodic repair recomputes
+ * counters from the applications collection and rewrites only the ones that drifted and
+ * have not been written since the repair started.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationCounterService {
+
+    private final MongoTemplate mongoTemplate;
+
+    public void recordApplied(String jobId, String status) {
+        Update update = new Update().inc("total", 1).set("updatedAt", LocalDateTime.now());
+        String field = counterField(status);
+        if (field != null) {
+            update.inc(field, 1);
+        }
+        mongoTemplate.upsert(byJob(jobId), update, JobApplicationCounter.class);
+    }
+
+    public void recordRemoved(String jobId, String status) {
+        Update update = new Update().inc("total", -1).set("updatedAt", LocalDateTime.now());
+        String field = counterField(status);
+        if (field != null) {
+            update.inc(field, -1);
+        }
+        mongoTemplate.updateFirst(byJob(jobId), update, JobApplicationCounter.class);
+    }
+
+    public void recordStatusChange(String jobId, String from, String to) {
+        Update update = statusChange(Map.of(from != null ? from : "", 1L), to);
+        if (update != null) {
+            mongoTemplate.upsert(byJob(jobId), update, JobApplicationCounter.class);
+        }
+    }
+
+    /**
+     * Applies many transitions to one target status as a single unordered bulk write,
+     * one $inc per job. The map is jobId -> (previous status -> number of applications).
+     */
+    public void recordStatusChanges(Map<String, Map<String, Long>> changesByJob, String to) {
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplicationCounter.class);
+        int operations = 0;
+        for (Map.Entry<String, Map<String, Long>> job : changesByJob.entrySet()) {
+            Update update = statusChange(job.getValue(), to);
+            if (update != null) {
+                bulk.upsert(byJob(job.getKey()), update);
+                operations++;
+            }
+        }
+        if (operations > 0) {
+            bulk.execute();
+        }
+    }
+
+    public List<JobApplicationCountDTO> getCounts(Collection<String> jobIds) {
+        Set<String> ids = new LinkedHashSet<>(jobIds);
+        Map<String, JobApplicationCounter> counters = new HashMap<>();
+        mongoTemplate.find(new Query(Criteria.where("_id").in(ids)), JobApplicationCounter.class)
+                .forEach(counter -> counters.put(counter.getId(), counter));
+
+        return ids.stream()
+                .map(jobId -> {
+                    JobApplicationCounter counter = counters.get(jobId);
+                    return counter == null
+                            ? new JobApplicationCountDTO(jobId, 0, 0, 0, 0)
+                            : new JobApplicationCountDTO(jobId, counter.getTotal(), counter.getPending(),
+                                    counter.getAccepted(), counter.getRejected());
+                })
+                .collect(Collectors.toList());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${application-counters.repair-interval-ms:3600000}",
+            initialDelayString = "${application-counters.repair-interval-ms:3600000}")
+    public void repair() {
+        // Counters touched by a live $inc after this point are left for the next run, so a
+        // write that lands between the aggregation and the bulk write is never overwritten
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            // Source of truth: one $group over applications by job and status
+            Aggregation aggregation = Aggregation.newAggregation(
+                    Aggregation.group("jobId", "status").count().as("count"));
+            Map<String, JobApplicationCounter> expected = new HashMap<>();
+            for (Document row : mongoTemplate.aggregate(aggregation, Application.class, Document.class)) {
+                Document key = row.get("_id", Document.class);
+                String jobId = key.getString("jobId");
+                long count = ((Number) row.get("count")).longValue();
+                JobApplicationCounter counter = expected.computeIfAbsent(jobId, id -> {
+                    JobApplicationCounter fresh = new JobApplicationCounter();
+                    fresh.setId(id);
+                    return fresh;
+                });
+                counter.setTotal(counter.getTotal() + count);
+                String field = counterField(key.getString("status"));
+                if ("pending".equals(field)) {
+                    counter.setPending(counter.getPending() + count);
+                } else if ("accepted".equals(field)) {
+                    counter.setAccepted(counter.getAccepted() + count);
+                } else if ("rejected".equals(field)) {
+                    counter.setRejected(counter.getRejected() + count);
+                }
+            }
+
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, JobApplicationCounter.class);
+            int repaired = 0;
+            Set<String> seen = new HashSet<>();
+            for (JobApplicationCounter actual : mongoTemplate.findAll(JobApplicationCounter.class)) {
+                seen.add(actual.getId());
+                JobApplicationCounter wanted = expected.get(actual.getId());
+                if (wanted == null) {
+                    bulk.remove(unchangedSince(actual.getId(), startedAt));
+                    repaired++;
+                } else if (drifted(actual, wanted)) {
+                    bulk.updateOne(unchangedSince(wanted.getId(), startedAt), overwrite(wanted));
+                    repaired++;
+                }
+            }
+            for (JobApplicationCounter wanted : expected.values()) {
+                if (!seen.contains(wanted.getId())) {
+                    // If a live $inc created it in the meantime, leave that counter alone
+                    bulk.upsert(byJob(wanted.getId()), createIfMissing(wanted));
+                    repaired++;
+                }
+            }
+
+            if (repaired > 0) {
+                bulk.execute();
+                log.info("Repaired {} job application counters", repaired);
+            }
+        } catch (Exception e) {
+            log.error("Error repairing job application counters: {}", e.getMessage());
+        }
+    }
+
+    private static Update statusChange(Map<String, Long> fromCounts, String to) {
+        String toField = counterField(to);
+        Update update = new Update();
+        long moved = 0;
+        for (Map.Entry<String, Long> from : fromCounts.entrySet()) {
+            String fromField = counterField(from.getKey());
+            if (fromField != null && !fromField.equals(toField)) {
+                update.inc(fromField, -from.getValue());
+            }
+            if (!from.getKey().equalsIgnoreCase(to == null ? "" : to)) {
+                moved += from.getValue();
+            }
+        }
+        if (moved == 0) {
+            return null;
+        }
+        if (toField != null) {
+            update.inc(toField, moved);
+        }
+        return update.set("updatedAt", LocalDateTime.now());
+    }
+
+    private static boolean drifted(JobApplicationCounter actual, JobApplicationCounter wanted) {
+        return actual.getTotal() != wanted.getTotal()
+                || actual.getPending() != wanted.getPending()
+                || actual.getAccepted() != wanted.getAccepted()
+                || actual.getRejected() != wanted.getRejected();
+    }
+
+    private static Update overwrite(JobApplicationCounter counter) {
+        return new Update()
+                .set("total", counter.getTotal())
+                .set("pending", counter.getPending())
+                .set("accepted", counter.getAccepted())
+                .set("rejected", counter.getRejected())
+                .set("updatedAt", LocalDateTime.now());
+    }
+
+    private static Update createIfMissing(JobApplicationCounter counter) {
+        return new Update()
+                .setOnInsert("total", counter.getTotal())
+                .setOnInsert("pending", counter.getPending())
+                .setOnInsert("accepted", counter.getAccepted())
+                .setOnInsert("rejected", counter.getRejected())
+                .setOnInsert("updatedAt", LocalDateTime.now());
+    }
+
+    private static Query unchangedSince(String jobId, LocalDateTime since) {
+        return new Query(Criteria.where("_id").is(jobId).orOperator(
+                Criteria.where("updatedAt").lt(since),
+                Criteria.where("updatedAt").exists(false)));
+    }
+
+    private static Query byJob(String jobId) {
+        return new Query(Criteria.where("_id").is(jobId));
+    }
+
+    private static String counterField(String status) {
+        if (status == null) {
+            return null;
+        }
+        try {
+            return ApplicationStatus.valueOf(status.toUpperCase()).name().toLowerCase();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.ApplicationEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * In-process fan-out of application events to Server-Sent Events subscribers, keyed by user id.
+ * Publishing only enqueues: each subscriber has its own bounded buffer, so a slow client never
+ * blocks a request thread. A subscriber whose buffer overflows is closed; the browser reconnects
+ * and refetches its list.
+ * <p>
+ * Writes block on the socket, so buffers are drained on an elastic pool: a client with a full
+ * TCP window pins one thread while other subscribers get their own, up to
+ * {@code max-dispatch-threads}. A send still in progress after {@code write-timeout-ms} closes
+ * its subscriber at the next heartbeat; the thread itself is freed by the container's write
+ * timeout. Only when every dispatch thread is stuck at once do the remaining subscribers wait.
+ */
+@Slf4j
+@Component
+public class ApplicationEventHub {
+
+    private final Map<String, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+    private final long timeoutMs;
+    private final long writeTimeoutMs;
+    private final int bufferSize;
+    private final int maxPerUser;
+
+    public ApplicationEventHub(
+            @Value("${application-events.dispatch-threads:2}") int dispatchThreads,
+            @Value("${application-events.max-dispatch-threads:64}") int maxDispatchThreads,
+            @Value("${application-events.timeout-ms:1800000}") long timeoutMs,
+            @Value("${application-events.write-timeout-ms:10000}") long writeTimeoutMs,
+            @Value("${application-events.buffer-size:64}") int bufferSize,
+            @Value("${application-events.max-subscriptions-per-user:5}") int maxPerUser) {
+        // No queue: a drain either gets a thread now or stays pending until the next enqueue
+        this.dispatcher = new ThreadPoolExecutor(dispatchThreads, Math.max(dispatchThreads, maxDispatchThreads),
+                60L, TimeUnit.SECONDS, new SynchronousQueue<>());
+        this.timeoutMs = timeoutMs;
+        this.writeTimeoutMs = writeTimeoutMs;
+        this.bufferSize = bufferSize;
+        this.maxPerUser = maxPerUser;
+    }
+
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(bufferSize));
+
+        // Added inside compute so it cannot race with remove() dropping an emptied list
+        List<Subscriber> userSubscribers = subscribers.compute(userId, (id, list) -> {
+            List<Subscriber> updated = list != null ? list : new CopyOnWriteArrayList<>();
+            updated.add(subscriber);
+            return updated;
+        });
+        // Tabs that were never closed cleanly should not pin connections forever; drop the oldest
+        while (userSubscribers.size() > maxPerUser) {
+            userSubscribers.get(0).close();
+        }
+
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> remove(subscriber));
+
+        // Flushes the response headers through the gateway right away
+        enqueue(subscriber, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    public void applicationCreated(String applicationId, String jobId, String applicantId, String recruiterId, String status) {
+        ApplicationEvent event = new ApplicationEvent("APPLICATION_CREATED", applicationId, jobId, status,
+                LocalDateTime.now().toString());
+        publish(recruiterId, event);
+        publish(applicantId, event);
+    }
+
+    public void statusChanged(String applicationId, String jobId, String applicantId, String recruiterId, String status) {
+        ApplicationEvent event = new ApplicationEvent("STATUS_CHANGED", applicationId, jobId, status,
+                LocalDateTime.now().toString());
+        publish(applicantId, event);
+        publish(recruiterId, event);
+    }
+
+    public void applyFailed(String applicationId, String jobId, String applicantId) {
+        publish(applicantId, new ApplicationEvent("APPLY_FAILED", applicationId, jobId, "FAILED",
+                LocalDateTime.now().toString()));
+    }
+
+    private void publish(String userId, ApplicationEvent event) {
+        if (userId == null) {
+            return;
+        }
+        List<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            enqueue(subscriber, SseEmitter.event()
+                    .name(event.getType())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    // Also lets proxies and the gateway see traffic on idle connections and surfaces dead clients
+    @Scheduled(fixedDelayString = "${application-events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (List<Subscriber> userSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : userSubscribers) {
+                long sendingSince = subscriber.sendingSince;
+                if (sendingSince != 0 && now - sendingSince > writeTimeoutMs) {
+                    log.warn("Event write stalled for user {}, closing subscription", subscriber.userId);
+                    subscriber.close();
+                    continue;
+                }
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("Event buffer full for user {}, closing subscription", subscriber.userId);
+            subscriber.close();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Every dispatch thread is busy; the next event or heartbeat tries again
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    // At most one drain per subscriber runs at a time, which keeps its events in order
+    private void drain(Subscriber subscriber) {
+        do {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.sendingSince = System.currentTimeMillis();
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    subscriber.close();
+                    return;
+                } finally {
+                    subscriber.sendingSince = 0;
+                }
+            }
+            subscriber.draining.set(false);
+        } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscriber.closed.set(true);
+        subscriber.buffer.clear();
+        subscribers.computeIfPresent(subscriber.userId, (id, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(Subscriber::close));
+        dispatcher.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile long sendingSince;
+
+        private Subscriber(String userId, SseEmitter emitter, Queue<SseEmitter.SseEventBuilder> buffer) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+
+        private void close() {
+            if (closed.compareAndSet(false, true)) {
+                remove(this);
+                try {
+                    emitter.complete();
+                } catch (Exception e) {
+                    // Already completed by the container
+                }
+            }
+        }
+    }
+}
@@ -2,25 +2,69 @@ package com.jobportal.applicationservice.service;
 
 import com.jobportal.applicationservice.dto.ApplicationCountDTO;
 import com.jobportal.applicationservice.dto.ApplicationResponse;
+import com.jobportal.applicationservice.dto.AvailableJobsPage;
+import com.jobportal.applicationservice.dto.BulkStatusResult;
+import com.jobportal.applicationservice.dto.FunnelAnalyticsDTO;
+import com.jobportal.applicationservice.dto.JobPipelineDTO;
+import com.jobportal.applicationservice.dto.JobSummary;
+import com.jobportal.applicationservice.dto.ResumeFile;
+import com.jobportal.applicationservice.dto.StagedResume;
+import com.jobportal.applicationservice.enums.ApplicationStatus;
 import com.jobportal.applicationservice.model.Application;
+import com.jobportal.applicationservice.model.ApplyTask;
+import com.jobportal.applicationservice.model.IdempotencyRecord;
+import com.jobportal.applicationservice.model.JobSnapshot;
+import com.jobportal.applicationservice.model.StatusChange;
 import com.jobportal.applicationservice.repository.ApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.bson.Document;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 @Slf4j
 @Service
@@ -29,94 +73,364 @@ public class ApplicationService {
 
     private final ApplicationRepository applicationRepository;
     private final FileUploadService fileUploadService;
-    private final RestTemplate restTemplate;
+    private final JobServiceClient jobServiceClient;
+    private final UserProfileClient userProfileClient;
+    private final JobDetailsClient jobDetailsClient;
+    private final ResumeIndexer resumeIndexer;
+    private final MongoTemplate mongoTemplate;
+    private final IdempotencyStore idempotencyStore;
+    private final ApplicationCounterService counterService;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+    private final ApplicationEventHub eventHub;
 
-    @Value("${service.urls.job:http://localhost:3003}")
-    private String jobServiceUrl;
+    private static final int MAX_BULK_STATUS_IDS = 500;
 
-    public ApplicationResponse applyForJob(String userId, String jobId, MultipartFile resume) throws Exception {
-        // Validate job exists and get recruiter info
-        String recruiterId = null;
-        try {
-            String jobUrl = jobServiceUrl + "/api/v1/jobs/internal/" + jobId;
-            // The internal endpoint returns JobResponse directly, not wrapped
-            Map<String, Object> jobResponse = restTemplate.getForObject(jobUrl, Map.class);
-            log.info("Job response: {}", jobResponse);
-            
-            // Extract recruiter ID from job details
-            if (jobResponse != null) {
-                recruiterId = (String) jobResponse.get("createdBy");
-                log.info("Extracted recruiter ID: {}", recruiterId);
+    public ApplicationResponse applyForJob(String userId, String jobId, MultipartFile resume,
+                                           boolean useProfileResume, String idempotencyKey) throws Exception {
+        if (useProfileResume && resume != null && !resume.isEmpty()) {
+            throw new IllegalArgumentException("Upload a resume or use the profile resume, not both");
+        }
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return applyForJob(userId, jobId, resume, useProfileResume);
+        }
+
+        Optional<IdempotencyRecord> previous = idempotencyStore.reserve(userId, idempotencyKey, jobId);
+        if (previous.isPresent()) {
+            IdempotencyRecord record = previous.get();
+            if (!jobId.equals(record.getRequestFingerprint())) {
+                throw new IllegalArgumentException("Idempotency-Key was already used for a different request");
             }
+            if (record.getResponse() == null) {
+                throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+            }
+            log.info("Replaying application {} for idempotency key from user {}", record.getResponse().getId(), userId);
+            return record.getResponse();
+        }
+
+        try {
+            ApplicationResponse response = applyForJob(userId, jobId, resume, useProfileResume);
+            idempotencyStore.complete(userId, idempotencyKey, response);
+            return response;
         } catch (Exception e) {
+            idempotencyStore.release(userId, idempotencyKey);
+            throw e;
+        }
+    }
+
+    private ApplicationResponse applyForJob(String userId, String jobId, MultipartFile resume,
+                                            boolean useProfileResume) throws Exception {
+        // Validate job exists and get recruiter info
+        JobSummary job;
+        try {
+            job = fetchJob(jobId);
+        } catch (HttpClientErrorException e) {
             log.error("Error fetching job: {}", e.getMessage());
             throw new IllegalArgumentException("Job not found");
         }
-        
+        recruiterOf(job, jobId);
+
+        // Stage the resume; it only becomes visible (and referenced) once the insert succeeds
+        StagedResume staged = useProfileResume ? stageProfileResume(userId) : fileUploadService.stageResume(resume);
+        return mapToResponse(createApplication(null, userId, jobId, job, staged));
+    }
+
+    /**
+     * Second half of an asynchronous apply, run by the queue worker: validates the job and
+     * commits the already staged resume under the id handed out when the request was queued.
+     * IllegalArgumentException and DuplicateKeyException are final; anything else may be retried.
+     */
+    public void completeQueuedApply(ApplyTask task) throws Exception {
+        StagedResume staged = task.getResumeTempFile() == null ? null : new StagedResume(
+                Paths.get(task.getResumeTempFile()), task.getResumeHash(), task.getResumeExtension(),
+                task.getResumeSize(), task.getResumePath());
+
+        Optional<Application> inserted = applicationRepository.findById(task.getId());
+        if (inserted.isPresent()) {
+            // An earlier attempt got as far as the insert before losing its lease; finish what it
+            // may have skipped. Commits only refresh the blob record, the effects run once
+            Application application = inserted.get();
+            if (staged != null && Files.exists(staged.getTempFile())) {
+                fileUploadService.commit(staged);
+            } else if (task.isUseProfileResume() && application.getResumePath() != null) {
+                fileUploadService.commit(fileUploadService.referenceStoredResume(application.getResumePath()));
+            }
+            publishCreated(application);
+            return;
+        }
+        if (task.isUseProfileResume()) {
+            staged = stageProfileResume(task.getUserId());
+        }
+
+        JobSummary job;
+        try {
+            job = fetchJob(task.getJobId());
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new IllegalArgumentException("Job not found");
+        }
+        createApplication(task.getId(), task.getUserId(), task.getJobId(), job, staged);
+    }
+
+    // The profile resume already lives in the shared store, so applying with it moves no bytes
+    private StagedResume stageProfileResume(String userId) throws IOException {
+        String resumePath = userProfileClient.getProfileResumePath(userId);
+        if (resumePath == null || resumePath.isBlank()) {
+            throw new IllegalArgumentException("There is no resume on your profile");
+        }
+        return fileUploadService.referenceStoredResume(resumePath);
+    }
+
+    public boolean hasApplied(String userId, String jobId) {
+        return applicationRepository.findByJobIdAndApplicantId(jobId, userId).isPresent();
+    }
+
+    public ApplicationResponse getApplication(String applicationId) {
+        return applicationRepository.findById(applicationId).map(this::mapToResponse).orElse(null);
+    }
+
+    // Throws JobServiceUnavailableException when job-service is down or the circuit is open
+    private JobSummary fetchJob(String jobId) {
+        // The internal endpoint returns JobResponse directly, not wrapped
+        JobSummary job = jobServiceClient.get("/api/v1/jobs/internal/" + jobId, JobSummary.class);
+        log.info("Job response: {}", job);
+        return job;
+    }
+
+    private static String recruiterOf(JobSummary job, String jobId) {
+        String recruiterId = job != null ? job.getCreatedBy() : null;
         if (recruiterId == null) {
             log.error("Recruiter ID is null for job: {}", jobId);
             throw new IllegalArgumentException("Could not determine recruiter for this job");
         }
+        return recruiterId;
+    }
 
-        // Check if already applied
-        if (applicationRepository.findByJobIdAndApplicantId(jobId, userId).isPresent()) {
-            throw new IllegalArgumentException("You have already applied for this job");
+    private Application createApplication(String applicationId, String userId, String jobId,
+                                          JobSummary job, StagedResume staged) throws IOException {
+        String recruiterId;
+        try {
+            recruiterId = recruiterOf(job, jobId);
+        } catch (IllegalArgumentException e) {
+            fileUploadService.discard(staged);
+            throw e;
         }
 
-        // Upload resume
-        String resumePath = fileUploadService.uploadResume(resume);
+        Application application = new Application(jobId, userId, recruiterId, staged != null ? staged.getResumePath() : null);
+        application.setId(applicationId);
+        application.setJobSnapshot(toSnapshot(job));
+        if (applicationId != null) {
+            application.setCreatedEffectsPending(true);
+        }
+        Application savedApp;
+        try {
+            // The unique job_applicant_idx rejects a second application with DuplicateKeyException,
+            // so there is no separate existence check to race with
+            savedApp = applicationRepository.insert(application);
+        } catch (DuplicateKeyException e) {
+            if (applicationId != null && isOwnIdConflict(e)) {
+                // A worker whose lease ran out inserted this task's application and still owns
+                // the staged file; it commits that file, this attempt only finishes the effects
+                Application existing = applicationRepository.findById(applicationId)
+                        .orElseThrow(() -> new IllegalStateException("Application " + applicationId + " was rolled back"));
+                publishCreated(existing);
+                return existing;
+            }
+            fileUploadService.discard(staged);
+            throw e;
+        } catch (RuntimeException e) {
+            fileUploadService.discard(staged);
+            throw e;
+        }
+
+        try {
+            fileUploadService.commit(staged);
+        } catch (IOException | RuntimeException e) {
+            removeApplication(savedApp);
+            fileUploadService.discard(staged);
+            throw e;
+        }
 
-        Application application = new Application(jobId, userId, recruiterId, resumePath);
-        Application savedApp = applicationRepository.save(application);
-        
+        publishCreated(savedApp);
         log.info("Application created: {} for job: {} by user: {} with recruiter: {}", savedApp.getId(), jobId, userId, recruiterId);
-        return mapToResponse(savedApp);
+        return savedApp;
+    }
+
+    // Rolls back an insert; only a queued apply can have had its effects published by a re-run meanwhile
+    private void removeApplication(Application application) {
+        Application removed = mongoTemplate.findAndRemove(
+                new Query(Criteria.where("_id").is(application.getId())), Application.class);
+        if (removed != null && application.getCreatedEffectsPending() != null
+                && removed.getCreatedEffectsPending() == null) {
+            counterService.recordRemoved(removed.getJobId(), removed.getStatus());
+        }
+    }
+
+    private static boolean isOwnIdConflict(DuplicateKeyException e) {
+        return e.getMessage() != null && e.getMessage().contains("index: _id_ ");
+    }
+
+    private void publishCreated(Application application) {
+        if (Boolean.TRUE.equals(application.getCreatedEffectsPending())) {
+            boolean claimed = mongoTemplate.updateFirst(
+                    new Query(Criteria.where("_id").is(application.getId()).and("createdEffectsPending").is(true)),
+                    new Update().unset("createdEffectsPending"),
+                    Application.class).getModifiedCount() > 0;
+            if (!claimed) {
+                return;
+            }
+        }
+        // A re-run may find the status already changed; those transitions were counted on their own
+        List<StatusChange> history = application.getStatusHistory();
+        String createdStatus = history != null && !history.isEmpty() ? history.get(0).getStatus() : application.getStatus();
+        counterService.recordApplied(application.getJobId(), createdStatus);
+        funnelAnalyticsService.recordApplied(application.getJobId(), application.getRecruiterId(), createdStatus);
+        resumeIndexer.submit(application);
+        eventHub.applicationCreated(application.getId(), application.getJobId(), application.getApplicantId(),
+                application.getRecruiterId(), application.getStatus());
     }
 
     public List<ApplicationResponse> getApplicantApplications(String userId) {
-        return applicationRepository.findByApplicantId(userId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return mapToResponses(applicationRepository.findByApplicantId(userId));
     }
 
     public Page<ApplicationResponse> getRecruiterApplications(String recruiterId, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        return applicationRepository.findByRecruiterId(recruiterId, pageable)
-                .map(this::mapToResponse);
+        Page<Application> applications = applicationRepository.findByRecruiterId(recruiterId, pageable);
+        return new PageImpl<>(mapToResponses(applications.getContent()), pageable, applications.getTotalElements());
     }
 
     public List<ApplicationResponse> getRecruiterApplicationsList(String recruiterId) {
-        return applicationRepository.findByRecruiterId(recruiterId)
-                .stream()
-                .map(this::mapToResponse)
+        return mapToResponses(applicationRepository.findByRecruiterId(recruiterId));
+    }
+
+    public List<ApplicationResponse> searchRecruiterCandidates(String recruiterId, String query, int limit) {
+        if (query == null || query.isBlank()) {
+            return List.of();
+        }
+        List<String> rankedIds = resumeIndexer.search(recruiterId, query, limit);
+        Map<String, Application> applications = new HashMap<>();
+        applicationRepository.findAllById(rankedIds)
+                .forEach(application -> applications.put(application.getId(), application));
+
+        // findAllById does not preserve order, so restore the text-score ranking
+        List<Application> ranked = rankedIds.stream()
+                .map(applications::get)
+                .filter(Objects::nonNull)
+                .filter(application -> recruiterId.equals(application.getRecruiterId()))
                 .collect(Collectors.toList());
+        return mapToResponses(ranked);
     }
 
-    public List<?> getAvailableJobsForApplicant(String userId) {
-        try {
-            // Call job-service directly (internal service communication)
-            String jobsUrl = jobServiceUrl + "/api/v1/jobs?page=0&size=1000";
-            Map<String, Object> response = restTemplate.getForObject(jobsUrl, Map.class);
-            
-            if (response != null && response.containsKey("result")) {
-                Object result = response.get("result");
-                if (result instanceof Map) {
-                    Map<String, Object> resultMap = (Map<String, Object>) result;
-                    Object content = resultMap.get("content");
-                    if (content instanceof List) {
-                        return (List<?>) content;
-                    }
-                }
+    public Page<JobPipelineDTO> getRecruiterPipeline(String recruiterId, int page, int size, int recent) {
+        Pageable pageable = PageRequest.of(page, size);
+        // One pass over the recruiterId + jobId + status index: per-status counts and the
+        // newest applications per job come out of a single $group, then jobs are paged
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(Criteria.where("recruiterId").is(recruiterId)),
+                Aggregation.group("jobId")
+                        .sum(statusIs("PENDING")).as("pending")
+                        .sum(statusIs("ACCEPTED")).as("accepted")
+                        .sum(statusIs("REJECTED")).as("rejected")
+                        .count().as("total")
+                        .max("createdAt").as("latestAppliedAt")
+                        .and("recent", newestApplications(recent)),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "latestAppliedAt").and(Sort.by("_id"))),
+                Aggregation.facet(Aggregation.skip(pageable.getOffset()), Aggregation.limit(size)).as("jobs")
+                        .and(Aggregation.count().as("total")).as("total")
+        );
+
+        Document result = mongoTemplate.aggregate(aggregation, Application.class, Document.class).getUniqueMappedResult();
+        if (result == null) {
+            return Page.empty(pageable);
+        }
+        List<Document> groups = result.getList("jobs", Document.class);
+        List<Document> totals = result.getList("total", Document.class);
+        long totalJobs = totals.isEmpty() ? 0 : ((Number) totals.get(0).get("total")).longValue();
+
+        List<JobPipelineDTO> jobs = new ArrayList<>(groups.size());
+        List<Application> recentApplications = new ArrayList<>();
+        List<Integer> recentCounts = new ArrayList<>(groups.size());
+        for (Document group : groups) {
+            List<Application> applications = group.getList("recent", Document.class).stream()
+                    .map(document -> mongoTemplate.getConverter().read(Application.class, document))
+                    .toList();
+            recentApplications.addAll(applications);
+            recentCounts.add(applications.size());
+
+            JobPipelineDTO job = new JobPipelineDTO();
+            job.setJobId(group.getString("_id"));
+            job.setPending(((Number) group.get("pending")).longValue());
+            job.setAccepted(((Number) group.get("accepted")).longValue());
+            job.setRejected(((Number) group.get("rejected")).longValue());
+            job.setTotal(((Number) group.get("total")).longValue());
+            Date latest = group.getDate("latestAppliedAt");
+            job.setLatestAppliedAt(latest != null ? latest.toInstant().toString() : null);
+            jobs.add(job);
+        }
+
+        // Map all recent applications in one go so un-snapshotted jobs share a single batched lookup
+        List<ApplicationResponse> responses = mapToResponses(recentApplications);
+        int offset = 0;
+        for (int i = 0; i < jobs.size(); i++) {
+            JobPipelineDTO job = jobs.get(i);
+            List<ApplicationResponse> jobResponses = responses.subList(offset, offset + recentCounts.get(i));
+            offset += recentCounts.get(i);
+            job.setRecentApplications(List.copyOf(jobResponses));
+            if (!jobResponses.isEmpty()) {
+                ApplicationResponse newest = jobResponses.get(0);
+                job.setJobTitle(newest.getJobTitle());
+                job.setJobPosition(newest.getJobPosition());
+                job.setJobCompany(newest.getJobCompany());
             }
-            return List.of();
+        }
+        return new PageImpl<>(jobs, pageable, totalJobs);
+    }
+
+    public SseEmitter subscribeToEvents(String userId) {
+        return eventHub.subscribe(userId);
+    }
+
+    public FunnelAnalyticsDTO getRecruiterAnalytics(String recruiterId, String jobId) {
+        return funnelAnalyticsService.getFunnel(recruiterId, jobId);
+    }
+
+    public String getApplicantApplicationsTag(String userId) {
+        return versionTag(applicationRepository.findVersionsByApplicantId(userId), "");
+    }
+
+    public String getRecruiterApplicationsTag(String recruiterId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Page<Application> versions = applicationRepository.findVersionsByRecruiterId(recruiterId, pageable);
+        return versionTag(versions.getContent(), page + "/" + size + "/" + versions.getTotalElements());
+    }
+
+    public String getRecruiterApplicationsListTag(String recruiterId) {
+        return versionTag(applicationRepository.findVersionsByRecruiterId(recruiterId), "");
+    }
+
+    public AvailableJobsPage getAvailableJobsForApplicant(String userId, String cursor, int size) {
+        // Applied job ids come from the applicantId index as a projected read; job-service
+        // excludes them while paging ACTIVE jobs with a keyset cursor
+        Set<String> appliedJobIds = new LinkedHashSet<>();
+        applicationRepository.findJobIdsByApplicantId(userId)
+                .forEach(application -> appliedJobIds.add(application.getJobId()));
+
+        Map<String, Object> request = new HashMap<>();
+        request.put("excludeIds", appliedJobIds);
+        request.put("cursor", cursor);
+        request.put("size", size);
+        try {
+            AvailableJobsPage page = jobServiceClient.post("/api/v1/jobs/internal/available", request, AvailableJobsPage.class);
+            return page != null ? page : new AvailableJobsPage(List.of(), null, false);
+        } catch (HttpClientErrorException.BadRequest e) {
+            throw new IllegalArgumentException("Invalid cursor");
         } catch (Exception e) {
             log.error("Error fetching available jobs for applicant: {}", e.getMessage());
-            return List.of();
+            return new AvailableJobsPage(List.of(), null, false);
         }
     }
 
     public ApplicationResponse updateApplicationStatus(String applicationId, String userId, String status) {
+        String newStatus = parseStatus(status);
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
@@ -124,14 +438,112 @@ public class ApplicationService {
             throw new IllegalArgumentException("You can only update your own applications");
         }
 
-        application.setStatus(status.toUpperCase());
-        application.setUpdatedAt(LocalDateTime.now());
+        String previousStatus = application.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime stageEnteredAt = stageEnteredAt(application);
+        boolean changed = !newStatus.equals(previousStatus);
+
+        application.setStatus(newStatus);
+        application.setUpdatedAt(now);
+        if (changed) {
+            if (application.getStatusHistory() == null) {
+                application.setStatusHistory(new ArrayList<>());
+            }
+            application.getStatusHistory().add(new StatusChange(newStatus, now));
+        }
         Application updatedApp = applicationRepository.save(application);
-        
+        counterService.recordStatusChange(updatedApp.getJobId(), previousStatus, updatedApp.getStatus());
+        if (changed) {
+            funnelAnalyticsService.recordTransitions(List.of(new FunnelAnalyticsService.Transition(
+                    updatedApp.getJobId(), updatedApp.getRecruiterId(), previousStatus, newStatus, stageEnteredAt, now)));
+            eventHub.statusChanged(updatedApp.getId(), updatedApp.getJobId(), updatedApp.getApplicantId(),
+                    updatedApp.getRecruiterId(), newStatus);
+        }
+
         log.info("Application status updated: {} to {}", applicationId, status);
         return mapToResponse(updatedApp);
     }
 
+    public BulkStatusResult updateApplicationStatuses(String userId, List<String> ids, String status) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("No application ids provided");
+        }
+        if (ids.size() > MAX_BULK_STATUS_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_STATUS_IDS + " applications can be updated at once");
+        }
+        String target = parseStatus(status);
+        List<String> requested = new ArrayList<>(new LinkedHashSet<>(ids));
+
+        // One projected read classifies every id, then one ownership-filtered updateMany
+        // writes all eligible applications; two round trips regardless of batch size
+        Query lookup = new Query(Criteria.where("_id").in(requested));
+        lookup.fields().include("jobId", "applicantId", "recruiterId", "status", "createdAt", "updatedAt").slice("statusHistory", -1);
+        Map<String, Application> existing = new HashMap<>();
+        mongoTemplate.find(lookup, Application.class).forEach(application -> existing.put(application.getId(), application));
+
+        List<String> eligible = new ArrayList<>();
+        Map<String, String> outcomes = new HashMap<>();
+        for (String id : requested) {
+            Application application = existing.get(id);
+            if (application == null) {
+                outcomes.put(id, "NOT_FOUND");
+            } else if (!userId.equals(application.getRecruiterId())) {
+                outcomes.put(id, "FORBIDDEN");
+            } else if (target.equals(application.getStatus())) {
+                outcomes.put(id, "UNCHANGED");
+            } else {
+                eligible.add(id);
+            }
+        }
+
+        long updated = 0;
+        if (!eligible.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            Query filter = new Query(Criteria.where("_id").in(eligible)
+                    .and("recruiterId").is(userId)
+                    .and("status").ne(target));
+            updated = mongoTemplate.updateMulti(filter,
+                    new Update().set("status", target).set("updatedAt", now)
+                            .push("statusHistory", new StatusChange(target, now)),
+                    Application.class).getModifiedCount();
+
+            if (updated == eligible.size()) {
+                eligible.forEach(id -> outcomes.put(id, "UPDATED"));
+            } else {
+                // Something changed between the read and the write; re-read only the ids that raced
+                Query recheck = new Query(Criteria.where("_id").in(eligible));
+                recheck.fields().include("status");
+                Set<String> nowTarget = new HashSet<>();
+                mongoTemplate.find(recheck, Application.class).stream()
+                        .filter(application -> target.equals(application.getStatus()))
+                        .forEach(application -> nowTarget.add(application.getId()));
+                eligible.forEach(id -> outcomes.put(id, nowTarget.contains(id) ? "UPDATED" : "CONFLICT"));
+            }
+
+            // Counter and funnel moves for the whole batch: one $inc per affected rollup in a single bulk write each
+            Map<String, Map<String, Long>> changesByJob = new HashMap<>();
+            List<FunnelAnalyticsService.Transition> transitions = new ArrayList<>();
+            for (String id : eligible) {
+                if ("UPDATED".equals(outcomes.get(id))) {
+                    Application previous = existing.get(id);
+                    changesByJob.computeIfAbsent(previous.getJobId(), jobId -> new HashMap<>())
+                            .merge(previous.getStatus(), 1L, Long::sum);
+                    transitions.add(new FunnelAnalyticsService.Transition(previous.getJobId(), previous.getRecruiterId(),
+                            previous.getStatus(), target, stageEnteredAt(previous), now));
+                    eventHub.statusChanged(id, previous.getJobId(), previous.getApplicantId(), userId, target);
+                }
+            }
+            counterService.recordStatusChanges(changesByJob, target);
+            funnelAnalyticsService.recordTransitions(transitions);
+        }
+
+        log.info("Bulk status update by {}: {} of {} applications set to {}", userId, updated, requested.size(), target);
+        List<BulkStatusResult.Outcome> results = requested.stream()
+                .map(id -> new BulkStatusResult.Outcome(id, outcomes.get(id)))
+                .collect(Collectors.toList());
+        return new BulkStatusResult(target, updated, results);
+    }
+
     public ApplicationCountDTO getApplicationCounts() {
         long pending = applicationRepository.countByStatus("PENDING");
         long accepted = applicationRepository.countByStatus("ACCEPTED");
@@ -140,7 +552,49 @@ public class ApplicationService {
         return new ApplicationCountDTO(pending, accepted, rejected);
     }
 
+    // When the application entered its current status; documents created before the history
+    // existed fall back to createdAt (still pending) or the last update
+    private static LocalDateTime stageEnteredAt(Application application) {
+        List<StatusChange> history = application.getStatusHistory();
+        if (history != null && !history.isEmpty()) {
+            return history.get(history.size() - 1).getAt();
+        }
+        return "PENDING".equals(application.getStatus()) ? application.getCreatedAt() : application.getUpdatedAt();
+    }
+
+    private static String parseStatus(String status) {
+        try {
+            return ApplicationStatus.valueOf(status == null ? "" : status.trim().toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static AggregationExpression statusIs(String status) {
+        return ConditionalOperators.when(Criteria.where("status").is(status)).then(1).otherwise(0);
+    }
+
+    // $topN keeping whole documents; SelectionOperators.Top always wraps output in an array
+    private static AggregationExpression newestApplications(int n) {
+        return context -> new Document("$topN", new Document("n", n)
+                .append("sortBy", new Document("createdAt", -1))
+                .append("output", "$$ROOT"));
+    }
+
+    private List<ApplicationResponse> mapToResponses(List<Application> applications) {
+        // Applications carry their own job snapshot; only documents not yet backfilled
+        // fall back to one batched, cached lookup for their distinct jobs
+        Map<String, JobSummary> jobs = jobDetailsClient.getJobSummaries(jobIdsWithoutSnapshot(applications));
+        return applications.stream()
+                .map(application -> mapToResponse(application, jobs.get(application.getJobId())))
+                .collect(Collectors.toList());
+    }
+
     private ApplicationResponse mapToResponse(Application application) {
+        return mapToResponses(List.of(application)).get(0);
+    }
+
+    private ApplicationResponse mapToResponse(Application application, JobSummary fallbackJob) {
         ApplicationResponse response = new ApplicationResponse();
         response.setId(application.getId());
         response.setJobId(application.getJobId());
@@ -150,36 +604,141 @@ public class ApplicationService {
         response.setResumePath(application.getResumePath());
         response.setCreatedAt(application.getCreatedAt() != null ? application.getCreatedAt().toString() : null);
         response.setUpdatedAt(application.getUpdatedAt() != null ? application.getUpdatedAt().toString() : null);
-        
-        // Fetch and include job details
-        try {
-            Map<String, Object> jobDetails = getJobDetails(application.getJobId());
-            if (jobDetails != null) {
-                response.setJobTitle((String) jobDetails.get("title"));
-                response.setJobPosition((String) jobDetails.get("position"));
-                response.setJobCompany((String) jobDetails.get("company"));
-            }
-        } catch (Exception e) {
+
+        JobSnapshot snapshot = application.getJobSnapshot();
+        if (snapshot != null) {
+            response.setJobTitle(snapshot.getTitle());
+            response.setJobPosition(snapshot.getPosition());
+            response.setJobCompany(snapshot.getCompany());
+        } else if (fallbackJob != null) {
+            response.setJobTitle(fallbackJob.getTitle());
+            response.setJobPosition(fallbackJob.getPosition());
+            response.setJobCompany(fallbackJob.getCompany());
+        } else {
             log.warn("Could not fetch job details for jobId: {}", application.getJobId());
         }
-        
+
         return response;
     }
-    
-    private Map<String, Object> getJobDetails(String jobId) {
-        try {
-            String jobUrl = jobServiceUrl + "/api/v1/jobs/internal/" + jobId;
-            Map<String, Object> jobResponse = restTemplate.getForObject(jobUrl, Map.class);
-            if (jobResponse != null) {
-                return jobResponse;
+
+    static JobSnapshot toSnapshot(JobSummary job) {
+        return new JobSnapshot(job.getTitle(), job.getPosition(), job.getCompany(), LocalDateTime.now());
+    }
+
+    private static Set<String> jobIdsWithoutSnapshot(List<Application> applications) {
+        Set<String> jobIds = new LinkedHashSet<>();
+        for (Application application : applications) {
+            if (application.getJobSnapshot() == null) {
+                jobIds.add(application.getJobId());
             }
-        } catch (Exception e) {
-            log.error("Error fetching job details for jobId {}: {}", jobId, e.getMessage());
         }
-        return null;
+        return jobIds;
+    }
+
+    // Covers every field the list shows, including the job details copied into the snapshot
+    private String versionTag(List<Application> versions, String prefix) {
+        StringBuilder fingerprint = new StringBuilder(prefix);
+        for (Application application : versions) {
+            fingerprint.append('|').append(application.getId())
+                    .append(':').append(application.getStatus())
+                    .append(':').append(application.getUpdatedAt());
+            JobSnapshot snapshot = application.getJobSnapshot();
+            if (snapshot == null) {
+                // Job details come live from job-service until the backfill copies them, so
+                // there is nothing stable to tag and the list is never answered with a 304
+                fingerprint.append(':').append(UUID.randomUUID());
+            } else {
+                fingerprint.append(':').append(snapshot.getTitle())
+                        .append(':').append(snapshot.getPosition())
+                        .append(':').append(snapshot.getCompany());
+            }
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public boolean hasApplicationsForJob(String recruiterId, String jobId) {
+        return mongoTemplate.exists(new Query(Criteria.where("recruiterId").is(recruiterId).and("jobId").is(jobId)),
+                Application.class);
+    }
+
+    /**
+     * Writes a ZIP with every resume of the job followed by manifest.csv, reading applications
+     * through a cursor and copying each file from disk into its entry, so memory use does not
+     * depend on how many applications or how large the files are.
+     */
+    public void exportJobApplications(String recruiterId, String jobId, OutputStream out) throws IOException {
+        Query query = new Query(Criteria.where("recruiterId").is(recruiterId).and("jobId").is(jobId))
+                .with(Sort.by("createdAt"));
+        Set<String> missingResumes = new HashSet<>();
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // Resumes are PDF/DOCX and mostly compressed already; favour throughput over ratio
+        zip.setLevel(Deflater.BEST_SPEED);
+
+        try (Stream<Application> applications = mongoTemplate.stream(query, Application.class)) {
+            for (Application application : (Iterable<Application>) applications::iterator) {
+                if (application.getResumePath() == null) {
+                    continue;
+                }
+                ResumeFile resume;
+                try {
+                    resume = fileUploadService.resolveFile(application.getResumePath());
+                } catch (IOException | IllegalArgumentException e) {
+                    log.warn("Resume missing for application {} during export: {}", application.getId(), e.getMessage());
+                    missingResumes.add(application.getId());
+                    continue;
+                }
+                ZipEntry entry = new ZipEntry(exportEntryName(application));
+                entry.setLastModifiedTime(FileTime.fromMillis(resume.getLastModified()));
+                zip.putNextEntry(entry);
+                Files.copy(resume.getPath(), zip);
+                zip.closeEntry();
+            }
+        }
+
+        // Second cursor pass for the manifest, written last so it can flag missing files
+        zip.putNextEntry(new ZipEntry("manifest.csv"));
+        Writer manifest = new OutputStreamWriter(zip, StandardCharsets.UTF_8);
+        manifest.write("applicationId,applicantId,status,appliedAt,updatedAt,jobTitle,resumeFile\n");
+        try (Stream<Application> applications = mongoTemplate.stream(query, Application.class)) {
+            for (Application application : (Iterable<Application>) applications::iterator) {
+                String resumeFile = application.getResumePath() == null ? ""
+                        : missingResumes.contains(application.getId()) ? "MISSING"
+                        : exportEntryName(application);
+                JobSnapshot snapshot = application.getJobSnapshot();
+                manifest.write(String.join(",",
+                        csv(application.getId()),
+                        csv(application.getApplicantId()),
+                        csv(application.getStatus()),
+                        csv(application.getCreatedAt() != null ? application.getCreatedAt().toString() : null),
+                        csv(application.getUpdatedAt() != null ? application.getUpdatedAt().toString() : null),
+                        csv(snapshot != null ? snapshot.getTitle() : null),
+                        csv(resumeFile)));
+                manifest.write('\n');
+            }
+        }
+        manifest.flush();
+        zip.closeEntry();
+        zip.finish();
+    }
+
+    private static String exportEntryName(Application application) {
+        String fileName = application.getResumePath();
+        String extension = fileName.contains(".") ? fileName.substring(fileName.lastIndexOf('.')) : "";
+        return "resumes/" + application.getId() + extension;
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 
-    public byte[] getResumeBytes(String applicationId) throws Exception {
+    public ResumeFile getResume(String applicationId) {
         var application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("Application not found"));
 
@@ -189,7 +748,7 @@ public class ApplicationService {
         }
 
         try {
-            return fileUploadService.readFile(resumePath);
+            return fileUploadService.resolveFile(resumePath);
         } catch (Exception e) {
             log.error("Error reading resume file for application {}: {}", applicationId, e.getMessage());
             throw new IllegalArgumentException("Could not read resume file");
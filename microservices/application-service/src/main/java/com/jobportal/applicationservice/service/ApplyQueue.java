@@ -0,0 +1,220 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.ApplicationResponse;
+import com.jobportal.applicationservice.dto.ApplyTaskStatus;
+import com.jobportal.applicationservice.dto.StagedResume;
+import com.jobportal.applicationservice.model.ApplyTask;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous apply: the request thread only validates the upload, streams it to a temp
+ * file on the uploads volume and records a task, then answers 202. A bounded pool of workers
+ * does the job-service lookup, resume commit and insert, retrying transient failures with
+ * exponential backoff. The final state is visible through {@link #getStatus} and pushed to
+ * the applicant over the event stream.
+ */
+@Slf4j
+@Component
+public class ApplyQueue {
+
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final ApplicationService applicationService;
+    private final ApplyTaskStore taskStore;
+    private final FileUploadService fileUploadService;
+    private final ApplicationEventHub eventHub;
+    private final ThreadPoolExecutor workers;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    public ApplyQueue(
+            ApplicationService applicationService,
+            ApplyTaskStore taskStore,
+            FileUploadService fileUploadService,
+            ApplicationEventHub eventHub,
+            @Value("${apply-queue.workers:4}") int workers,
+            @Value("${apply-queue.max-attempts:6}") int maxAttempts,
+            @Value("${apply-queue.retry-backoff-ms:2000}") long retryBackoffMs) {
+        this.applicationService = applicationService;
+        this.taskStore = taskStore;
+        this.fileUploadService = fileUploadService;
+        this.eventHub = eventHub;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        // No queue in front of the pool: the Mongo collection is the queue, threads only drain it
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public ApplyTaskStatus enqueue(String userId, String jobId, MultipartFile resume, boolean useProfileResume) throws IOException {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId is required");
+        }
+        if (useProfileResume && resume != null && !resume.isEmpty()) {
+            throw new IllegalArgumentException("Upload a resume or use the profile resume, not both");
+        }
+        if (applicationService.hasApplied(userId, jobId)) {
+            throw new DuplicateKeyException("Application already exists for job " + jobId);
+        }
+        // Retried submissions get the task that is already in flight
+        Optional<ApplyTask> live = taskStore.findActive(userId, jobId);
+        if (live.isPresent()) {
+            return toStatus(live.get(), null);
+        }
+
+        StagedResume staged = useProfileResume ? null : fileUploadService.stageResume(resume);
+        Date now = new Date();
+        ApplyTask task = new ApplyTask(
+                new ObjectId().toHexString(), userId, jobId, ApplyTaskStore.QUEUED, true, useProfileResume,
+                staged != null ? staged.getTempFile().toString() : null,
+                staged != null ? staged.getHash() : null,
+                staged != null ? staged.getExtension() : null,
+                staged != null ? staged.getSize() : 0,
+                staged != null ? staged.getResumePath() : null,
+                0, null, now, now, now, null);
+        try {
+            taskStore.insert(task);
+        } catch (DuplicateKeyException e) {
+            fileUploadService.discard(staged);
+            return taskStore.findActive(userId, jobId).map(existing -> toStatus(existing, null)).orElseThrow(() -> e);
+        } catch (RuntimeException e) {
+            fileUploadService.discard(staged);
+            throw e;
+        }
+
+        log.info("Queued application {} for job: {} by user: {}", task.getId(), jobId, userId);
+        wakeUp();
+        return toStatus(task, null);
+    }
+
+    /** Status of the caller's own task, or of the application once the task itself has expired. */
+    public Optional<ApplyTaskStatus> getStatus(String id, String userId) {
+        Optional<ApplyTask> task = taskStore.find(id).filter(t -> userId.equals(t.getUserId()));
+        if (task.isPresent()) {
+            ApplyTask t = task.get();
+            ApplicationResponse application = ApplyTaskStore.SUCCEEDED.equals(t.getState())
+                    ? applicationService.getApplication(id) : null;
+            return Optional.of(toStatus(t, application));
+        }
+        return Optional.ofNullable(applicationService.getApplication(id))
+                .filter(application -> userId.equals(application.getApplicantId()))
+                .map(application -> new ApplyTaskStatus(id, application.getJobId(), ApplyTaskStore.SUCCEEDED,
+                        0, null, application.getCreatedAt(), application.getUpdatedAt(), application));
+    }
+
+    // Also picks up tasks whose retry delay has passed or whose worker died mid-lease
+    @Scheduled(fixedDelayString = "${apply-queue.poll-interval-ms:2000}")
+    public void poll() {
+        int idle = workers.getMaximumPoolSize() - workers.getActiveCount();
+        for (int i = 0; i < idle; i++) {
+            wakeUp();
+        }
+    }
+
+    private void wakeUp() {
+        try {
+            workers.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // Every worker is busy and will claim the task when it finishes its current one
+        }
+    }
+
+    private void drain() {
+        ApplyTask task;
+        while ((task = claim()) != null) {
+            process(task);
+        }
+    }
+
+    private ApplyTask claim() {
+        try {
+            return taskStore.claim();
+        } catch (Exception e) {
+            log.warn("Could not claim apply task: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void process(ApplyTask task) {
+        try {
+            applicationService.completeQueuedApply(task);
+            if (!taskStore.succeed(task)) {
+                log.warn("Apply task {} was reclaimed before it completed", task.getId());
+            }
+        } catch (IllegalArgumentException e) {
+            giveUp(task, e.getMessage());
+        } catch (DuplicateKeyException e) {
+            // Only job_applicant_idx gets here; a clash on the task's own id is resolved in the service
+            giveUp(task, "You have already applied for this job");
+        } catch (Exception e) {
+            if (task.getAttempts() >= maxAttempts) {
+                log.error("Apply task {} failed after {} attempts: {}", task.getId(), task.getAttempts(), e.getMessage());
+                giveUp(task, "Failed to submit application");
+                return;
+            }
+            Duration delay = backoff(task.getAttempts());
+            log.warn("Apply task {} attempt {} failed, retrying in {} ms: {}",
+                    task.getId(), task.getAttempts(), delay.toMillis(), e.getMessage());
+            try {
+                taskStore.retry(task, e.getMessage(), delay);
+            } catch (Exception storeError) {
+                // The lease runs out and another worker picks the task up again
+                log.error("Could not reschedule apply task {}: {}", task.getId(), storeError.getMessage());
+            }
+        }
+    }
+
+    private void giveUp(ApplyTask task, String reason) {
+        try {
+            if (taskStore.fail(task, reason)) {
+                if (task.getResumeTempFile() != null) {
+                    fileUploadService.discard(new StagedResume(Paths.get(task.getResumeTempFile()),
+                            task.getResumeHash(), task.getResumeExtension(), task.getResumeSize(), task.getResumePath()));
+                }
+                eventHub.applyFailed(task.getId(), task.getJobId(), task.getUserId());
+            }
+        } catch (Exception e) {
+            log.error("Could not mark apply task {} as failed: {}", task.getId(), e.getMessage());
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 16));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private static ApplyTaskStatus toStatus(ApplyTask task, ApplicationResponse application) {
+        return new ApplyTaskStatus(
+                task.getId(),
+                task.getJobId(),
+                task.getState(),
+                task.getAttempts(),
+                task.getError(),
+                task.getCreatedAt() != null ? task.getCreatedAt().toInstant().toString() : null,
+                task.getUpdatedAt() != null ? task.getUpdatedAt().toInstant().toString() : null,
+                application);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Claimed tasks are picked up again when their lease expires
+        workers.shutdownNow();
+    }
+}
@@ -0,0 +1,135 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.model.ApplyTask;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mongo-backed work queue for asynchronous apply requests.
+ * Workers claim a task with a single findAndModify that moves it to PROCESSING and pushes
+ * nextAttemptAt out by the lease, so a task whose worker died becomes claimable again once
+ * the lease runs out. Every later write is fenced on the attempt count it was claimed with.
+ */
+@Slf4j
+@Component
+public class ApplyTaskStore {
+
+    static final String QUEUED = "QUEUED";
+    static final String PROCESSING = "PROCESSING";
+    static final String SUCCEEDED = "SUCCEEDED";
+    static final String FAILED = "FAILED";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration lease;
+    private final Duration retention;
+
+    public ApplyTaskStore(
+            MongoTemplate mongoTemplate,
+            @Value("${apply-queue.lease-ms:60000}") long leaseMs,
+            @Value("${apply-queue.retention-hours:24}") long retentionHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.lease = Duration.ofMillis(leaseMs);
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    /** Throws DuplicateKeyException when the user already has a live task for the job. */
+    public void insert(ApplyTask task) {
+        mongoTemplate.insert(task);
+    }
+
+    public Optional<ApplyTask> find(String id) {
+        return Optional.ofNullable(mongoTemplate.findById(id, ApplyTask.class));
+    }
+
+    public Optional<ApplyTask> findActive(String userId, String jobId) {
+        return Optional.ofNullable(mongoTemplate.findOne(
+                new Query(Criteria.where("userId").is(userId).and("jobId").is(jobId).and("active").is(true)),
+                ApplyTask.class));
+    }
+
+    public ApplyTask claim() {
+        Date now = new Date();
+        Query query = new Query(Criteria.where("state").in(QUEUED, PROCESSING).and("nextAttemptAt").lte(now))
+                .with(Sort.by("nextAttemptAt"));
+        Update update = new Update()
+                .set("state", PROCESSING)
+                .set("nextAttemptAt", new Date(now.getTime() + lease.toMillis()))
+                .set("updatedAt", now)
+                .inc("attempts", 1);
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ApplyTask.class);
+    }
+
+    public boolean succeed(ApplyTask task) {
+        return finish(task, SUCCEEDED, null);
+    }
+
+    public boolean fail(ApplyTask task, String error) {
+        return finish(task, FAILED, error);
+    }
+
+    public boolean retry(ApplyTask task, String error, Duration delay) {
+        Date now = new Date();
+        return mongoTemplate.updateFirst(claimedBy(task), new Update()
+                        .set("state", QUEUED)
+                        .set("error", error)
+                        .set("nextAttemptAt", new Date(now.getTime() + delay.toMillis()))
+                        .set("updatedAt", now),
+                ApplyTask.class).getModifiedCount() > 0;
+    }
+
+    private boolean finish(ApplyTask task, String state, String error) {
+        Date now = new Date();
+        return mongoTemplate.updateFirst(claimedBy(task), new Update()
+                        .set("state", state)
+                        .set("error", error)
+                        .unset("active")
+                        .unset("nextAttemptAt")
+                        .set("updatedAt", now)
+                        .set("expiresAt", new Date(now.getTime() + retention.toMillis())),
+                ApplyTask.class).getModifiedCount() > 0;
+    }
+
+    // Only the worker holding the latest claim may move the task on
+    private static Query claimedBy(ApplyTask task) {
+        return new Query(Criteria.where("_id").is(task.getId())
+                .and("state").is(PROCESSING)
+                .and("attempts").is(task.getAttempts()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(ApplyTask.class);
+            List.of(
+                    new Index().on("userId", Sort.Direction.ASC).on("jobId", Sort.Direction.ASC)
+                            .unique()
+                            .partial(PartialIndexFilter.of(Criteria.where("active").is(true)))
+                            .named("active_user_job_idx"),
+                    new Index().on("state", Sort.Direction.ASC).on("nextAttemptAt", Sort.Direction.ASC)
+                            .named("state_next_attempt_idx"),
+                    new Index().on("expiresAt", Sort.Direction.ASC).expire(Duration.ZERO)
+                            .named("expires_ttl_idx")
+            ).forEach(indexOps::ensureIndex);
+        } catch (Exception e) {
+            log.error("Error ensuring apply queue indexes: {}", e.getMessage());
+        }
+    }
+}
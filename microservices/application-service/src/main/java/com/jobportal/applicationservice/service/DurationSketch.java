@@ -0,0 +1,68 @@
+package com.jobportal.applicationservice.service;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Log-bucketed quantile sketch for durations (DDSketch-style). A duration maps to bucket
+ * {@code ceil(log_gamma(seconds))}, so every quantile comes back within the relative accuracy
+ * of the true value. Buckets are plain counters keyed "b<index>", which lets the rollup
+ * documents be updated with $inc and merged by addition.
+ */
+final class DurationSketch {
+
+    static final double RELATIVE_ACCURACY = 0.05;
+    private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+    private static final double LOG_GAMMA = Math.log(GAMMA);
+
+    private DurationSketch() {
+    }
+
+    static String bucketKey(long seconds) {
+        if (seconds <= 1) {
+            return "b0";
+        }
+        return "b" + (int) Math.ceil(Math.log(seconds) / LOG_GAMMA);
+    }
+
+    /** Returns the q-quantile in seconds, or null when the sketch is empty. */
+    static Long quantile(Map<String, Long> buckets, double q) {
+        if (buckets == null || buckets.isEmpty()) {
+            return null;
+        }
+        TreeMap<Integer, Long> ordered = new TreeMap<>();
+        long total = 0;
+        for (Map.Entry<String, Long> bucket : buckets.entrySet()) {
+            long count = bucket.getValue() != null ? bucket.getValue() : 0;
+            if (count > 0) {
+                ordered.merge(Integer.parseInt(bucket.getKey().substring(1)), count, Long::sum);
+                total += count;
+            }
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.floor(q * (total - 1));
+        long seen = 0;
+        for (Map.Entry<Integer, Long> bucket : ordered.entrySet()) {
+            seen += bucket.getValue();
+            if (seen > rank) {
+                return representative(bucket.getKey());
+            }
+        }
+        return representative(ordered.lastKey());
+    }
+
+    static long count(Map<String, Long> buckets) {
+        return buckets == null ? 0 : buckets.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    private static long representative(int index) {
+        if (index <= 0) {
+            return index == 0 ? 1 : 0;
+        }
+        // Midpoint (in relative terms) of (gamma^(i-1), gamma^i]
+        return Math.round(2 * Math.pow(GAMMA, index) / (GAMMA + 1));
+    }
+}
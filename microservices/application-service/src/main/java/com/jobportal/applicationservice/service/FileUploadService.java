@@ -1,60 +1,163 @@
 package com.jobportal.applicationservice.service;
 
+import com.jobportal.applicationservice.dto.ResumeFile;
+import com.jobportal.applicationservice.dto.StagedResume;
+import com.jobportal.applicationservice.model.ResumeBlob;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.UUID;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HexFormat;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileUploadService {
 
-    @Value("${upload.dir:public/uploads/}")
-    private String uploadDir;
+    private final MongoTemplate mongoTemplate;
+    private final ResumeStorage resumeStorage;
 
     private static final String[] ALLOWED_EXTENSIONS = {"pdf", "doc", "docx"};
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
 
-    public String uploadResume(MultipartFile file) throws IOException {
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+    private static final byte[] OLE2_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+            (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
+
+    public StagedResume stageResume(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
             return null;
         }
 
         validateFile(file);
-        
-        String fileName = generateFileName(getFileExtension(file.getOriginalFilename()));
-        Path uploadPath = Paths.get(uploadDir);
-        Files.createDirectories(uploadPath);
-        
-        Path filePath = uploadPath.resolve(fileName);
-        Files.write(filePath, file.getBytes());
-        
-        log.info("Resume uploaded successfully: {}", fileName);
-        return "/uploads/" + fileName;
+        String extension = getFileExtension(file.getOriginalFilename()).toLowerCase();
+
+        // Stream to a temp file on the uploads volume while hashing, so the
+        // upload is never held on the heap and the final rename stays atomic
+        Path tempFile = resumeStorage.createTempFile();
+        String hash;
+        long size;
+        try (PushbackInputStream in = new PushbackInputStream(file.getInputStream(), OLE2_MAGIC.length)) {
+            validateMagicBytes(in, extension);
+
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                size = in.transferTo(out);
+            }
+            hash = HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tempFile);
+            throw e;
+        }
+
+        // The final name is content-addressed, so it is known before anything is committed
+        return new StagedResume(tempFile, hash, extension, size, "/uploads/resume-" + hash + "." + extension);
     }
 
-    public byte[] readFile(String resumePath) throws IOException {
+    /**
+     * Stages a file that is already in the shared store, such as a profile resume uploaded
+     * through user-service. Nothing is copied; committing it only records the reference.
+     */
+    public StagedResume referenceStoredResume(String resumePath) throws IOException {
         if (resumePath == null || resumePath.isBlank()) {
             throw new IllegalArgumentException("Invalid resume path");
         }
-
-        // resumePath is expected to be like /uploads/filename.ext
         String fileName = Paths.get(resumePath).getFileName().toString();
-        Path uploadPath = Paths.get(uploadDir);
-        Path filePath = uploadPath.resolve(fileName);
+        String extension = getFileExtension(fileName).toLowerCase();
+        if (!Arrays.asList(ALLOWED_EXTENSIONS).contains(extension)) {
+            throw new IllegalArgumentException("Only PDF, DOC, DOCX files allowed");
+        }
+        long size;
+        try {
+            size = Files.size(resumeStorage.open(fileName));
+        } catch (NoSuchFileException e) {
+            throw new IllegalArgumentException("Profile resume file is missing, please upload it again");
+        }
+        return new StagedResume(null, hashOf(resumePath), extension, size, resumePath);
+    }
 
-        if (!Files.exists(filePath)) {
-            throw new IOException("File not found: " + filePath.toString());
+    public void commit(StagedResume staged) throws IOException {
+        if (staged == null) {
+            return;
         }
+        String fileName = Paths.get(staged.getResumePath()).getFileName().toString();
+        if (staged.getTempFile() == null) {
+            // A reference to a stored file; legacy uuid-named files have no blob record
+            if (staged.getHash() != null) {
+                retain(staged.getHash(), staged.getResumePath(), staged.getSize(),
+                        contentTypeFor(staged.getExtension()));
+                log.info("Referenced stored resume {}", fileName);
+            }
+            return;
+        }
+        // Identical content is already stored: the upload becomes a metadata-only operation
+        resumeStorage.store(staged.getTempFile(), fileName);
+
+        ResumeBlob previous = retain(staged.getHash(), staged.getResumePath(), staged.getSize(),
+                contentTypeFor(staged.getExtension()));
+        if (previous != null) {
+            log.info("Duplicate resume upload, reusing {}", fileName);
+        } else {
+            log.info("Resume uploaded successfully: {}", fileName);
+        }
+    }
 
-        return Files.readAllBytes(filePath);
+    public void discard(StagedResume staged) {
+        if (staged == null || staged.getTempFile() == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(staged.getTempFile());
+        } catch (IOException e) {
+            log.warn("Could not delete staged resume {}: {}", staged.getTempFile(), e.getMessage());
+        }
+    }
+
+    public ResumeFile resolveFile(String resumePath) throws IOException {
+        if (resumePath == null || resumePath.isBlank()) {
+            throw new IllegalArgumentException("Invalid resume path");
+        }
+
+        // resumePath is expected to be like /uploads/filename.ext; the storage layer maps it to its shard
+        String fileName = Paths.get(resumePath).getFileName().toString();
+        Path filePath;
+        try {
+            filePath = resumeStorage.open(fileName);
+        } catch (NoSuchFileException e) {
+            throw new IOException("File not found: " + fileName);
+        }
+
+        String extension = getFileExtension(fileName).toLowerCase();
+        long size = Files.size(filePath);
+        // Content-addressed files carry their SHA-256 in the name; legacy uuid names are immutable too
+        String hash = hashOf(resumePath);
+        String etag = "\"" + (hash != null ? hash : fileName.substring(0, fileName.lastIndexOf('.')) + "-" + size) + "\"";
+
+        return new ResumeFile(
+                filePath,
+                "resume." + extension,
+                contentTypeFor(extension),
+                etag,
+                size,
+                Files.getLastModifiedTime(filePath).toMillis());
     }
 
     public void validateFile(MultipartFile file) {
@@ -76,14 +179,70 @@ public class FileUploadService {
         }
     }
 
+    private void validateMagicBytes(PushbackInputStream in, String extension) throws IOException {
+        byte[] head = in.readNBytes(OLE2_MAGIC.length);
+        in.unread(head);
+
+        byte[] expected = switch (extension) {
+            case "pdf" -> PDF_MAGIC;
+            case "docx" -> ZIP_MAGIC;
+            case "doc" -> OLE2_MAGIC;
+            default -> null;
+        };
+        if (expected == null || head.length < expected.length
+                || !Arrays.equals(head, 0, expected.length, expected, 0, expected.length)) {
+            throw new IllegalArgumentException("File content does not match its ." + extension + " extension");
+        }
+    }
+
+    // Returns the record as it was before this call, null when the content is new
+    private ResumeBlob retain(String hash, String resumePath, long size, String contentType) {
+        Update update = new Update()
+                .set("lastRetainedAt", LocalDateTime.now())
+                .setOnInsert("path", resumePath)
+                .setOnInsert("size", size)
+                .setOnInsert("contentType", contentType)
+                .setOnInsert("createdAt", LocalDateTime.now());
+        return mongoTemplate.findAndModify(
+                new Query(Criteria.where("_id").is(hash)),
+                update,
+                FindAndModifyOptions.options().upsert(true).returnNew(false),
+                ResumeBlob.class);
+    }
+
+    static String contentTypeFor(String extension) {
+        return switch (extension.toLowerCase()) {
+            case "pdf" -> "application/pdf";
+            case "docx" -> "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+            case "doc" -> "application/msword";
+            default -> "application/octet-stream";
+        };
+    }
+
+    static String hashOf(String resumePath) {
+        if (resumePath == null) {
+            return null;
+        }
+        String fileName = Paths.get(resumePath).getFileName().toString();
+        if (!fileName.startsWith("resume-") || !fileName.contains(".")) {
+            return null;
+        }
+        String hash = fileName.substring("resume-".length(), fileName.lastIndexOf('.'));
+        return hash.length() == 64 ? hash : null;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
         }
         return filename.substring(filename.lastIndexOf(".") + 1);
     }
-
-    private String generateFileName(String extension) {
-        return "resume-" + UUID.randomUUID() + "." + extension;
-    }
 }
@@ -0,0 +1,82 @@
+package com.jobportal.applicationservice.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Open-addressing set of 64-bit string fingerprints (FNV-1a). Costs about 16 bytes per entry
+ * instead of a String plus HashMap node; a fingerprint collision can only make
+ * {@link #contains} answer true for an absent value.
+ */
+class FingerprintSet {
+
+    private long[] slots;
+    private int size;
+
+    FingerprintSet(int expected) {
+        slots = new long[tableSize(Math.max(expected, 16))];
+    }
+
+    void add(String value) {
+        if (size + 1 > slots.length / 2) {
+            resize();
+        }
+        if (insert(slots, fingerprint(value))) {
+            size++;
+        }
+    }
+
+    boolean contains(String value) {
+        long fp = fingerprint(value);
+        int mask = slots.length - 1;
+        for (int i = mix(fp) & mask; slots[i] != 0; i = (i + 1) & mask) {
+            if (slots[i] == fp) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void resize() {
+        long[] next = new long[slots.length * 2];
+        for (long fp : slots) {
+            if (fp != 0) {
+                insert(next, fp);
+            }
+        }
+        slots = next;
+    }
+
+    private static boolean insert(long[] table, long fp) {
+        int mask = table.length - 1;
+        int i = mix(fp) & mask;
+        while (table[i] != 0) {
+            if (table[i] == fp) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        table[i] = fp;
+        return true;
+    }
+
+    static long fingerprint(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash; // 0 marks an empty slot
+    }
+
+    private static int mix(long fp) {
+        return (int) (fp ^ (fp >>> 32)) * 0x9E3779B9;
+    }
+
+    private static int tableSize(int expected) {
+        return Integer.highestOneBit(expected * 2 - 1) << 1;
+    }
+}
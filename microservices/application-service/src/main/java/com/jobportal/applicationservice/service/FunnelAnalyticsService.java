@@ -0,0 +1,184 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.FunnelAnalyticsDTO;
+import com.jobportal.applicationservice.dto.FunnelStageDTO;
+import com.jobportal.applicationservice.enums.ApplicationStatus;
+import com.jobportal.applicationservice.model.FunnelRollup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-job and per-recruiter funnel rollups. Each status transition adds to the stage counters
+ * and to a duration sketch of how long the application sat in the stage it left; all of it is
+ * $inc on two rollup documents, so reads never touch application history.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FunnelAnalyticsService {
+
+    private final MongoTemplate mongoTemplate;
+
+    public record Transition(String jobId, String recruiterId, String from, String to,
+                             LocalDateTime stageEnteredAt, LocalDateTime at) {
+    }
+
+    public void recordApplied(String jobId, String recruiterId, String status) {
+        if (!isKnownStatus(status)) {
+            return;
+        }
+        Map<String, RollupDelta> deltas = new HashMap<>();
+        for (RollupDelta delta : deltasFor(deltas, jobId, recruiterId)) {
+            delta.inc("entered." + status, 1);
+        }
+        write(deltas);
+    }
+
+    /**
+     * Counts an application created before the rollups existed: it entered PENDING, and one
+     * already past it made a single transition whose time in stage is unknown.
+     */
+    public void recordExisting(String jobId, String recruiterId, String status) {
+        String pending = ApplicationStatus.PENDING.name();
+        Map<String, RollupDelta> deltas = new HashMap<>();
+        for (RollupDelta delta : deltasFor(deltas, jobId, recruiterId)) {
+            delta.inc("entered." + pending, 1);
+            if (isKnownStatus(status) && !pending.equals(status)) {
+                delta.inc("entered." + status, 1);
+                delta.inc("transitions." + pending + "_TO_" + status, 1);
+            }
+        }
+        write(deltas);
+    }
+
+    public void recordTransitions(List<Transition> transitions) {
+        Map<String, RollupDelta> deltas = new HashMap<>();
+        for (Transition transition : transitions) {
+            // Statuses become field path segments, so anything outside the enum is never written
+            if (!isKnownStatus(transition.from()) || !isKnownStatus(transition.to())) {
+                log.warn("Skipping funnel transition {} -> {} for job {}", transition.from(), transition.to(), transition.jobId());
+                continue;
+            }
+            for (RollupDelta delta : deltasFor(deltas, transition.jobId(), transition.recruiterId())) {
+                delta.inc("entered." + transition.to(), 1);
+                delta.inc("transitions." + transition.from() + "_TO_" + transition.to(), 1);
+                if (transition.stageEnteredAt() != null) {
+                    long seconds = Math.max(0, Duration.between(transition.stageEnteredAt(), transition.at()).getSeconds());
+                    delta.inc("timeInStage." + transition.from() + "." + DurationSketch.bucketKey(seconds), 1);
+                }
+            }
+        }
+        write(deltas);
+    }
+
+    public FunnelAnalyticsDTO getFunnel(String recruiterId, String jobId) {
+        FunnelRollup rollup = mongoTemplate.findById(jobId != null ? jobRollupId(jobId) : recruiterRollupId(recruiterId),
+                FunnelRollup.class);
+        if (rollup != null && !recruiterId.equals(rollup.getRecruiterId())) {
+            throw new IllegalArgumentException("You can only view analytics for your own jobs");
+        }
+
+        Map<String, Long> entered = rollup != null && rollup.getEntered() != null ? rollup.getEntered() : Map.of();
+        Map<String, Long> transitions = rollup != null && rollup.getTransitions() != null ? rollup.getTransitions() : Map.of();
+        Map<String, Map<String, Long>> timeInStage = rollup != null && rollup.getTimeInStage() != null
+                ? rollup.getTimeInStage() : Map.of();
+
+        List<FunnelStageDTO> stages = new ArrayList<>();
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            String stage = status.name();
+            long exited = transitions.entrySet().stream()
+                    .filter(entry -> entry.getKey().startsWith(stage + "_TO_"))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+            Map<String, Long> sketch = timeInStage.get(stage);
+            stages.add(new FunnelStageDTO(stage, entered.getOrDefault(stage, 0L), exited,
+                    DurationSketch.quantile(sketch, 0.5), DurationSketch.quantile(sketch, 0.9)));
+        }
+
+        long accepted = entered.getOrDefault(ApplicationStatus.ACCEPTED.name(), 0L);
+        long rejected = entered.getOrDefault(ApplicationStatus.REJECTED.name(), 0L);
+        Double acceptanceRate = accepted + rejected > 0 ? (double) accepted / (accepted + rejected) : null;
+
+        return new FunnelAnalyticsDTO(recruiterId, jobId, stages, new LinkedHashMap<>(transitions), acceptanceRate,
+                rollup != null && rollup.getUpdatedAt() != null ? rollup.getUpdatedAt().toString() : null);
+    }
+
+    private List<RollupDelta> deltasFor(Map<String, RollupDelta> deltas, String jobId, String recruiterId) {
+        return List.of(
+                deltas.computeIfAbsent(jobRollupId(jobId), id -> new RollupDelta(id, recruiterId, jobId)),
+                deltas.computeIfAbsent(recruiterRollupId(recruiterId), id -> new RollupDelta(id, recruiterId, null)));
+    }
+
+    private void write(Map<String, RollupDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, FunnelRollup.class);
+            LocalDateTime now = LocalDateTime.now();
+            for (RollupDelta delta : deltas.values()) {
+                Update update = new Update()
+                        .setOnInsert("recruiterId", delta.recruiterId)
+                        .setOnInsert("jobId", delta.jobId)
+                        .set("updatedAt", now);
+                delta.increments.forEach(update::inc);
+                bulk.upsert(new Query(Criteria.where("_id").is(delta.id)), update);
+            }
+            bulk.execute();
+        } catch (Exception e) {
+            // Analytics must never fail the status change that triggered it
+            log.error("Error updating funnel rollups: {}", e.getMessage());
+        }
+    }
+
+    private static String jobRollupId(String jobId) {
+        return "job:" + jobId;
+    }
+
+    private static String recruiterRollupId(String recruiterId) {
+        return "recruiter:" + recruiterId;
+    }
+
+    private static final class RollupDelta {
+        private final String id;
+        private final String recruiterId;
+        private final String jobId;
+        private final Map<String, Long> increments = new HashMap<>();
+
+        private RollupDelta(String id, String recruiterId, String jobId) {
+            this.id = id;
+            this.recruiterId = recruiterId;
+            this.jobId = jobId;
+        }
+
+        private void inc(String field, long amount) {
+            increments.merge(field, amount, Long::sum);
+        }
+    }
+
+    private static boolean isKnownStatus(String status) {
+        if (status == null) {
+            return false;
+        }
+        try {
+            ApplicationStatus.valueOf(status);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
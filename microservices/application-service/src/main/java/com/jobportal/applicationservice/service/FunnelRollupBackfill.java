@@ -0,0 +1,113 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.enums.ApplicationStatus;
+import com.jobportal.applicationservice.model.Application;
+import com.jobportal.applicationservice.model.StatusChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds the funnel rollups with applications created before status history existed.
+ * Those have no history, or one that does not start with the PENDING entry every new
+ * application gets. Each is counted from its current status and given that starting entry
+ * under a conditional update, so it is counted once even with several instances running.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FunnelRollupBackfill {
+
+    private static final String PENDING = ApplicationStatus.PENDING.name();
+
+    private final MongoTemplate mongoTemplate;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+
+    @Value("${funnel-analytics.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lastId = null;
+        long seeded = 0;
+        try {
+            while (true) {
+                Criteria criteria = new Criteria().orOperator(withoutHistory(), withPartialHistory());
+                if (lastId != null) {
+                    criteria = new Criteria().andOperator(criteria, Criteria.where("_id").gt(new ObjectId(lastId)));
+                }
+                Query query = new Query(criteria).with(Sort.by("_id")).limit(batchSize);
+                query.fields().include("jobId", "recruiterId", "status", "createdAt", "updatedAt").slice("statusHistory", 1);
+
+                List<Application> batch = mongoTemplate.find(query, Application.class);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+
+                for (Application application : batch) {
+                    if (seed(application)) {
+                        seeded++;
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error seeding funnel rollups: {}", e.getMessage());
+        }
+        if (seeded > 0) {
+            log.info("Seeded funnel rollups with {} existing applications", seeded);
+        }
+    }
+
+    private boolean seed(Application application) {
+        StatusChange created = new StatusChange(PENDING, application.getCreatedAt());
+        boolean hasHistory = application.getStatusHistory() != null && !application.getStatusHistory().isEmpty();
+        if (hasHistory) {
+            // Transitions since the history began were counted live; only the PENDING entry is missing
+            boolean claimed = mongoTemplate.updateFirst(
+                    new Query(new Criteria().andOperator(Criteria.where("_id").is(application.getId()), withPartialHistory())),
+                    new Update().push("statusHistory").atPosition(Update.Position.FIRST).value(created),
+                    Application.class).getModifiedCount() > 0;
+            if (claimed) {
+                funnelAnalyticsService.recordExisting(application.getJobId(), application.getRecruiterId(), PENDING);
+            }
+            return claimed;
+        }
+
+        // The last update is the closest known time the application reached its current status
+        List<StatusChange> history = new ArrayList<>(List.of(created));
+        if (!PENDING.equals(application.getStatus())) {
+            history.add(new StatusChange(application.getStatus(), application.getUpdatedAt()));
+        }
+        boolean claimed = mongoTemplate.updateFirst(
+                new Query(new Criteria().andOperator(Criteria.where("_id").is(application.getId()), withoutHistory())),
+                new Update().set("statusHistory", history),
+                Application.class).getModifiedCount() > 0;
+        if (claimed) {
+            funnelAnalyticsService.recordExisting(application.getJobId(), application.getRecruiterId(), application.getStatus());
+        }
+        return claimed;
+    }
+
+    private static Criteria withoutHistory() {
+        return new Criteria().orOperator(
+                Criteria.where("statusHistory").exists(false),
+                Criteria.where("statusHistory").size(0));
+    }
+
+    private static Criteria withPartialHistory() {
+        return Criteria.where("statusHistory.0.status").exists(true).ne(PENDING);
+    }
+}
@@ -0,0 +1,11 @@
+package com.jobportal.applicationservice.service;
+
+/**
+ * An earlier request with the same Idempotency-Key has been reserved but not completed yet.
+ */
+public class IdempotencyKeyInProgressException extends RuntimeException {
+
+    public IdempotencyKeyInProgressException(String message) {
+        super(message);
+    }
+}
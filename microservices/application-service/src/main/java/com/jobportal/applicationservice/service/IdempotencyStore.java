@@ -0,0 +1,105 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.ApplicationResponse;
+import com.jobportal.applicationservice.model.IdempotencyRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * Short-lived record of requests made with an Idempotency-Key header.
+ * A key is reserved with a plain insert (the _id makes it unique), completed with
+ * the response once the request succeeds, and released if it fails.
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    private static final String TTL_INDEX = "created_ttl_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration ttl;
+
+    public IdempotencyStore(
+            MongoTemplate mongoTemplate,
+            @Value("${idempotency.ttl-hours:24}") long ttlHours) {
+        this.mongoTemplate = mongoTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    /**
+     * Reserves the key for this request. Returns empty when the caller should proceed,
+     * or the stored record when the key was already used.
+     */
+    public Optional<IdempotencyRecord> reserve(String userId, String key, String fingerprint) {
+        return reserve(recordId(userId, key), fingerprint, true);
+    }
+
+    private Optional<IdempotencyRecord> reserve(String id, String fingerprint, boolean retry) {
+        try {
+            mongoTemplate.insert(new IdempotencyRecord(id, fingerprint, null, new Date()));
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            IdempotencyRecord existing = mongoTemplate.findById(id, IdempotencyRecord.class);
+            if (existing == null) {
+                // Expired or released between the insert and the read; try once more
+                if (retry) {
+                    return reserve(id, fingerprint, false);
+                }
+                throw new IdempotencyKeyInProgressException("A request with this Idempotency-Key is still in progress");
+            }
+            return Optional.of(existing);
+        }
+    }
+
+    public void complete(String userId, String key, ApplicationResponse response) {
+        mongoTemplate.updateFirst(
+                new Query(Criteria.where("_id").is(recordId(userId, key))),
+                new Update().set("response", response),
+                IdempotencyRecord.class);
+    }
+
+    public void release(String userId, String key) {
+        mongoTemplate.remove(new Query(Criteria.where("_id").is(recordId(userId, key))), IdempotencyRecord.class);
+    }
+
+    // The TTL comes from idempotency.ttl-hours; an existing index with another TTL is altered in place
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(IdempotencyRecord.class);
+            Optional<IndexInfo> existing = indexOps.getIndexInfo().stream()
+                    .filter(index -> TTL_INDEX.equals(index.getName()))
+                    .findFirst();
+            if (existing.isEmpty()) {
+                indexOps.ensureIndex(new Index().on("createdAt", Sort.Direction.ASC).expire(ttl).named(TTL_INDEX));
+            } else if (!existing.get().getExpireAfter().map(ttl::equals).orElse(false)) {
+                mongoTemplate.executeCommand(new Document("collMod", mongoTemplate.getCollectionName(IdempotencyRecord.class))
+                        .append("index", new Document("name", TTL_INDEX).append("expireAfterSeconds", ttl.getSeconds())));
+                log.info("Changed idempotency key TTL to {}", ttl);
+            }
+        } catch (Exception e) {
+            log.error("Error ensuring idempotency TTL index: {}", e.getMessage());
+        }
+    }
+
+    private static String recordId(String userId, String key) {
+        return userId + ":" + key;
+    }
+}
@@ -0,0 +1,118 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.JobSummary;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Resolves job summaries for application responses.
+ * Lookups are answered from a short-lived in-process cache first; the misses
+ * are split into batches and fetched from job-service concurrently, with at
+ * most {@code fanOut} requests in flight.
+ */
+@Slf4j
+@Component
+public class JobDetailsClient {
+
+    private final JobServiceClient jobServiceClient;
+    private final ExecutorService executor;
+    private final Map<String, CachedSummary> cache = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int batchSize;
+
+    public JobDetailsClient(
+            JobServiceClient jobServiceClient,
+            @Value("${job-details.cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${job-details.cache.max-entries:10000}") int maxEntries,
+            @Value("${job-details.batch-size:100}") int batchSize,
+            @Value("${job-details.fan-out:4}") int fanOut) {
+        this.jobServiceClient = jobServiceClient;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxEntries = maxEntries;
+        this.batchSize = batchSize;
+        this.executor = Executors.newFixedThreadPool(fanOut);
+    }
+
+    public Map<String, JobSummary> getJobSummaries(Collection<String> jobIds) {
+        Map<String, JobSummary> result = new HashMap<>();
+        Set<String> misses = new LinkedHashSet<>();
+        long now = System.currentTimeMillis();
+
+        for (String jobId : jobIds) {
+            if (jobId == null || result.containsKey(jobId)) {
+                continue;
+            }
+            CachedSummary cached = cache.get(jobId);
+            if (cached != null && cached.expiresAt > now) {
+                result.put(jobId, cached.summary);
+            } else {
+                misses.add(jobId);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        List<CompletableFuture<List<JobSummary>>> batches = new ArrayList<>();
+        List<String> pending = new ArrayList<>(misses);
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<String> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            batches.add(CompletableFuture.supplyAsync(() -> fetchBatch(batch), executor));
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        for (CompletableFuture<List<JobSummary>> batch : batches) {
+            for (JobSummary summary : batch.join()) {
+                result.put(summary.getId(), summary);
+                cache(summary, expiresAt);
+            }
+        }
+        return result;
+    }
+
+    private List<JobSummary> fetchBatch(List<String> jobIds) {
+        try {
+            JobSummary[] summaries = jobServiceClient.post("/api/v1/jobs/internal/batch", jobIds, JobSummary[].class);
+            return summaries != null ? List.of(summaries) : List.of();
+        } catch (Exception e) {
+            // Degraded: callers render these applications without job details
+            log.error("Error fetching job details for {} jobs: {}", jobIds.size(), e.getMessage());
+            return List.of();
+        }
+    }
+
+    private void cache(JobSummary summary, long expiresAt) {
+        if (cache.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            cache.values().removeIf(entry -> entry.expiresAt <= now);
+            if (cache.size() >= maxEntries) {
+                cache.clear();
+            }
+        }
+        cache.put(summary.getId(), new CachedSummary(summary, expiresAt));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record CachedSummary(JobSummary summary, long expiresAt) {
+    }
+}
@@ -0,0 +1,219 @@
+package com.jobportal.applicationservice.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * The only way application-service talks to job-service. Calls go through a dedicated
+ * RestTemplate with connect and read timeouts, a semaphore bulkhead that caps concurrent
+ * calls, and a count-based circuit breaker. Once the failure rate over the last
+ * {@code windowSize} calls crosses the threshold the circuit opens and calls fail fast with
+ * {@link JobServiceUnavailableException}; after {@code openDuration} a few trial calls decide
+ * whether it closes again. 4xx responses mean job-service is healthy and do not count as failures.
+ */
+@Slf4j
+@Component
+public class JobServiceClient {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final RestTemplate restTemplate;
+    private final String baseUrl;
+    private final Semaphore bulkhead;
+    private final long maxWaitMs;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+    private final int halfOpenCalls;
+
+    // Ring of recent outcomes; guarded by this
+    private final boolean[] outcomes;
+    private int recorded;
+    private int next;
+    private int failures;
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private int halfOpenSucceeded;
+
+    private final Counter successCalls;
+    private final Counter failedCalls;
+    private final Counter rejectedOpen;
+    private final Counter rejectedBulkhead;
+
+    public JobServiceClient(
+            RestTemplateBuilder restTemplateBuilder,
+            MeterRegistry meterRegistry,
+            @Value("${service.urls.job:http://localhost:3003}") String baseUrl,
+            @Value("${job-service-client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${job-service-client.read-timeout-ms:3000}") long readTimeoutMs,
+            @Value("${job-service-client.bulkhead.max-concurrent:16}") int maxConcurrent,
+            @Value("${job-service-client.bulkhead.max-wait-ms:50}") long maxWaitMs,
+            @Value("${job-service-client.circuit.window-size:20}") int windowSize,
+            @Value("${job-service-client.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${job-service-client.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${job-service-client.circuit.open-duration-ms:30000}") long openDurationMs,
+            @Value("${job-service-client.circuit.half-open-calls:3}") int halfOpenCalls) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+        this.baseUrl = baseUrl;
+        this.bulkhead = new Semaphore(maxConcurrent);
+        this.maxWaitMs = maxWaitMs;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.halfOpenCalls = halfOpenCalls;
+        this.outcomes = new boolean[windowSize];
+
+        Gauge.builder("job_service.circuit.state", this, client -> client.currentState().ordinal())
+                .description("Job-service circuit breaker state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        Gauge.builder("job_service.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Free job-service call slots")
+                .register(meterRegistry);
+        this.successCalls = callCounter(meterRegistry, "success");
+        this.failedCalls = callCounter(meterRegistry, "failure");
+        this.rejectedOpen = callCounter(meterRegistry, "rejected_circuit_open");
+        this.rejectedBulkhead = callCounter(meterRegistry, "rejected_bulkhead_full");
+    }
+
+    public <T> T get(String path, Class<T> responseType) {
+        return call(() -> restTemplate.getForObject(baseUrl + path, responseType));
+    }
+
+    public <T> T post(String path, Object body, Class<T> responseType) {
+        return call(() -> restTemplate.postForObject(baseUrl + path, body, responseType));
+    }
+
+    private <T> T call(Supplier<T> request) {
+        boolean trial = acquireCircuit();
+        boolean acquired = false;
+        try {
+            acquired = bulkhead.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            releaseTrial(trial);
+            rejectedBulkhead.increment();
+            throw new JobServiceUnavailableException("Too many concurrent job-service calls");
+        }
+
+        try {
+            T result = request.get();
+            record(true, trial);
+            return result;
+        } catch (HttpClientErrorException e) {
+            record(true, trial);
+            throw e;
+        } catch (RuntimeException e) {
+            record(false, trial);
+            throw new JobServiceUnavailableException("Job service call failed: " + e.getMessage(), e);
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // Returns whether this call is one of the half-open trial calls
+    private synchronized boolean acquireCircuit() {
+        State current = currentState();
+        if (current == State.OPEN) {
+            rejectedOpen.increment();
+            throw new JobServiceUnavailableException("Job service circuit is open");
+        }
+        if (current == State.HALF_OPEN) {
+            if (state == State.OPEN) {
+                transition(State.HALF_OPEN);
+            }
+            if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) {
+                rejectedOpen.increment();
+                throw new JobServiceUnavailableException("Job service circuit is half-open");
+            }
+            halfOpenInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void releaseTrial(boolean trial) {
+        if (trial && state == State.HALF_OPEN) {
+            halfOpenInFlight--;
+        }
+    }
+
+    private synchronized void record(boolean success, boolean trial) {
+        (success ? successCalls : failedCalls).increment();
+        if (trial) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            halfOpenInFlight--;
+            if (!success) {
+                transition(State.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == windowSize && !outcomes[next]) {
+            failures--;
+        }
+        outcomes[next] = success;
+        if (!success) {
+            failures++;
+        }
+        next = (next + 1) % windowSize;
+        recorded = Math.min(recorded + 1, windowSize);
+        if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+            transition(State.OPEN);
+        }
+    }
+
+    private synchronized State currentState() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openDurationMs) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    private void transition(State target) {
+        if (target == State.OPEN) {
+            openedAt = System.currentTimeMillis();
+            log.warn("Job service circuit opened; failing fast for {} ms", openDurationMs);
+        } else if (target == State.CLOSED) {
+            log.info("Job service circuit closed");
+        }
+        state = target;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+        halfOpenInFlight = 0;
+        halfOpenSucceeded = 0;
+    }
+
+    private static Counter callCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("job_service.calls")
+                .description("Job-service calls by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
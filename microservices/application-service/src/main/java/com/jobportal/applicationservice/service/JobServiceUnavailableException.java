@@ -0,0 +1,16 @@
+package com.jobportal.applicationservice.service;
+
+/**
+ * Job-service could not be asked: the circuit is open, the bulkhead is full,
+ * or the call timed out or failed on the server side.
+ */
+public class JobServiceUnavailableException extends RuntimeException {
+
+    public JobServiceUnavailableException(String message) {
+        super(message);
+    }
+
+    public JobServiceUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
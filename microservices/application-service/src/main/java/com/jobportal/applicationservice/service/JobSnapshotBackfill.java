@@ -0,0 +1,76 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.JobSummary;
+import com.jobportal.applicationservice.model.Application;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Fills the job snapshot on applications created before it existed.
+ * Walks the collection in _id order in batches and issues one updateMulti
+ * per distinct job, so the cost scales with jobs rather than applications.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobSnapshotBackfill {
+
+    private final MongoTemplate mongoTemplate;
+    private final JobDetailsClient jobDetailsClient;
+
+    @Value("${job-snapshot.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        String lastId = null;
+        long updated = 0;
+        try {
+            while (true) {
+                Criteria criteria = Criteria.where("jobSnapshot").exists(false);
+                if (lastId != null) {
+                    criteria = criteria.and("_id").gt(new ObjectId(lastId));
+                }
+                Query query = new Query(criteria).with(Sort.by("_id")).limit(batchSize);
+                query.fields().include("jobId");
+
+                List<Application> batch = mongoTemplate.find(query, Application.class);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                lastId = batch.get(batch.size() - 1).getId();
+
+                Set<String> jobIds = new LinkedHashSet<>();
+                batch.forEach(application -> jobIds.add(application.getJobId()));
+                Map<String, JobSummary> jobs = jobDetailsClient.getJobSummaries(jobIds);
+
+                for (Map.Entry<String, JobSummary> job : jobs.entrySet()) {
+                    updated += mongoTemplate.updateMulti(
+                            new Query(Criteria.where("jobId").is(job.getKey()).and("jobSnapshot").exists(false)),
+                            new Update().set("jobSnapshot", ApplicationService.toSnapshot(job.getValue())),
+                            Application.class).getModifiedCount();
+                }
+            }
+        } catch (Exception e) {
+            log.error("Error backfilling application job snapshots: {}", e.getMessage());
+        }
+        if (updated > 0) {
+            log.info("Backfilled job snapshot on {} applications", updated);
+        }
+    }
+}
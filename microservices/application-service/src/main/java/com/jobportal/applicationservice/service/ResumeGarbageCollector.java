@@ -0,0 +1,242 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.ResumeGcReport;
+import com.jobportal.applicationservice.model.Application;
+import com.jobportal.applicationservice.model.ResumeBlob;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+/**
+ * Mark-and-sweep collector for resume files nothing points at any more.
+ * Mark streams every referenced resumePath from applications (local cursor) and users
+ * (user-service internal endpoint) into a fingerprint set; sweep walks the upload tree and
+ * deletes unreferenced files older than the grace period in throttled batches. If either
+ * reference source cannot be read completely the sweep is skipped.
+ */
+@Slf4j
+@Component
+public class ResumeGarbageCollector {
+
+    private final MongoTemplate mongoTemplate;
+    private final RestTemplate restTemplate;
+    private final ResumeStorage resumeStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicReference<ResumeGcReport> lastReport = new AtomicReference<>();
+
+    @Value("${service.urls.user:http://localhost:3002}")
+    private String userServiceUrl;
+
+    @Value("${resume-gc.enabled:true}")
+    private boolean enabled;
+
+    @Value("${resume-gc.grace-hours:24}")
+    private long graceHours;
+
+    @Value("${resume-gc.batch-size:200}")
+    private int batchSize;
+
+    @Value("${resume-gc.throttle-ms:100}")
+    private long throttleMillis;
+
+    public ResumeGarbageCollector(MongoTemplate mongoTemplate, RestTemplate restTemplate, ResumeStorage resumeStorage) {
+        this.mongoTemplate = mongoTemplate;
+        this.restTemplate = restTemplate;
+        this.resumeStorage = resumeStorage;
+    }
+
+    public ResumeGcReport getLastReport() {
+        return lastReport.get();
+    }
+
+    /** Starts a collection in the background; returns false if one is already running. */
+    public boolean trigger() {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        executor.execute(() -> {
+            try {
+                collect();
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    @Scheduled(fixedDelayString = "${resume-gc.interval-ms:86400000}",
+            initialDelayString = "${resume-gc.initial-delay-ms:3600000}")
+    public void scheduledRun() {
+        if (enabled) {
+            trigger();
+        }
+    }
+
+    private void collect() {
+        Instant started = Instant.now();
+        Instant cutoff = started.minus(Duration.ofHours(graceHours));
+        LocalDateTime markedAt = LocalDateTime.ofInstant(started, ZoneId.systemDefault());
+        ResumeGcReport report = new ResumeGcReport(started.toString(), null, "RUNNING", 0, 0, 0, 0, null);
+        lastReport.set(report);
+
+        FingerprintSet referenced;
+        try {
+            referenced = markReferenced();
+        } catch (Exception e) {
+            log.error("Resume GC aborted, could not load references: {}", e.getMessage());
+            finish(report, "ABORTED", "Could not load references: " + e.getMessage());
+            return;
+        }
+        report.setReferencedPaths(referenced.size());
+
+        List<Path> batch = new ArrayList<>(batchSize);
+        try (Stream<Path> files = resumeStorage.walkStoredFiles()) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                report.setScannedFiles(report.getScannedFiles() + 1);
+                if (!referenced.contains(ResumeStorage.logicalName(file)) && olderThan(file, cutoff)) {
+                    batch.add(file);
+                }
+                if (batch.size() >= batchSize) {
+                    sweep(batch, markedAt, cutoff, report);
+                    batch.clear();
+                    Thread.sleep(throttleMillis);
+                }
+            }
+            sweep(batch, markedAt, cutoff, report);
+
+            // Temp files abandoned by crashed uploads
+            try (Stream<Path> temps = resumeStorage.walkTempFiles()) {
+                for (Path temp : (Iterable<Path>) temps::iterator) {
+                    if (olderThan(temp, cutoff)) {
+                        deleteFile(temp, report);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            finish(report, "ABORTED", "Interrupted");
+            return;
+        } catch (IOException e) {
+            log.error("Resume GC sweep failed: {}", e.getMessage());
+            finish(report, "ABORTED", "Sweep failed: " + e.getMessage());
+            return;
+        }
+
+        finish(report, "COMPLETED", null);
+        log.info("Resume GC scanned {} files against {} references, deleted {} ({} bytes reclaimed)",
+                report.getScannedFiles(), report.getReferencedPaths(), report.getDeletedFiles(), report.getReclaimedBytes());
+    }
+
+    private FingerprintSet markReferenced() throws IOException {
+        Query applications = new Query(Criteria.where("resumePath").ne(null));
+        applications.fields().include("resumePath");
+        FingerprintSet referenced = new FingerprintSet(
+                (int) Math.min(mongoTemplate.estimatedCount(Application.class), Integer.MAX_VALUE / 4));
+        try (Stream<Application> stream = mongoTemplate.stream(applications, Application.class)) {
+            stream.forEach(application -> referenced.add(fileName(application.getResumePath())));
+        }
+
+        restTemplate.execute(userServiceUrl + "/api/v1/internal/resume-paths", HttpMethod.GET, null, response -> {
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        referenced.add(fileName(line));
+                    }
+                }
+            }
+            return null;
+        });
+        return referenced;
+    }
+
+    private void sweep(List<Path> candidates, LocalDateTime markedAt, Instant cutoff, ResumeGcReport report) {
+        for (Path file : candidates) {
+            String name = ResumeStorage.logicalName(file);
+            String hash = FileUploadService.hashOf(name);
+            if (hash != null) {
+                // A deduplicated upload may have started pointing at this blob after the mark phase
+                ResumeBlob blob = mongoTemplate.findById(hash, ResumeBlob.class);
+                if (blob != null && blob.getLastRetainedAt() != null && !blob.getLastRetainedAt().isBefore(markedAt)) {
+                    continue;
+                }
+            }
+            // The age was checked while walking; user-service bumps mtime when it re-uses a file
+            if (!olderThan(file, cutoff)) {
+                continue;
+            }
+            if (deleteFile(file, report) && hash != null) {
+                mongoTemplate.remove(new Query(Criteria.where("_id").is(hash)), ResumeBlob.class);
+            }
+        }
+    }
+
+    private boolean deleteFile(Path file, ResumeGcReport report) {
+        try {
+            long size = Files.size(file);
+            if (Files.deleteIfExists(file)) {
+                report.setDeletedFiles(report.getDeletedFiles() + 1);
+                report.setReclaimedBytes(report.getReclaimedBytes() + size);
+                log.debug("Deleted orphaned upload {}", file);
+                return true;
+            }
+        } catch (NoSuchFileException e) {
+            // Already gone
+        } catch (IOException e) {
+            log.warn("Could not delete orphaned upload {}: {}", file, e.getMessage());
+        }
+        return false;
+    }
+
+    private void finish(ResumeGcReport report, String status, String message) {
+        report.setStatus(status);
+        report.setMessage(message);
+        report.setFinishedAt(Instant.now().toString());
+    }
+
+    private static boolean olderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String fileName(String resumePath) {
+        return Paths.get(resumePath).getFileName().toString();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,154 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.model.Application;
+import com.jobportal.applicationservice.model.ResumeText;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.CompoundIndexDefinition;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Extracts resume text on a bounded background pool and stores it in the
+ * resume_texts collection, whose {recruiterId, text} text index serves as a
+ * per-recruiter inverted index. Submitting never blocks the caller: when the
+ * queue is full the work is dropped and picked up again by the startup sweep.
+ */
+@Slf4j
+@Component
+public class ResumeIndexer {
+
+    private final MongoTemplate mongoTemplate;
+    private final FileUploadService fileUploadService;
+    private final ResumeTextExtractor extractor;
+    private final ThreadPoolExecutor executor;
+
+    public ResumeIndexer(
+            MongoTemplate mongoTemplate,
+            FileUploadService fileUploadService,
+            ResumeTextExtractor extractor,
+            @Value("${resume-index.workers:2}") int workers,
+            @Value("${resume-index.queue-capacity:200}") int queueCapacity) {
+        this.mongoTemplate = mongoTemplate;
+        this.fileUploadService = fileUploadService;
+        this.extractor = extractor;
+        this.executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public void submit(Application application) {
+        if (application.getResumePath() == null) {
+            return;
+        }
+        try {
+            executor.execute(() -> index(application));
+        } catch (RejectedExecutionException e) {
+            log.warn("Resume index queue full, deferring application {}", application.getId());
+        }
+    }
+
+    public List<String> search(String recruiterId, String terms, int limit) {
+        Query query = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(terms))
+                .sortByScore()
+                .addCriteria(Criteria.where("recruiterId").is(recruiterId))
+                .limit(limit);
+        query.fields().include("_id");
+        return mongoTemplate.find(query, ResumeText.class).stream()
+                .map(ResumeText::getId)
+                .toList();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        try {
+            mongoTemplate.indexOps(ResumeText.class).ensureIndex(new CompoundIndexDefinition(
+                    new Document("recruiterId", 1).append("text", "text")).named("recruiter_text_idx"));
+        } catch (Exception e) {
+            log.error("Error ensuring resume text index: {}", e.getMessage());
+            return;
+        }
+        executor.execute(this::indexMissing);
+    }
+
+    private void index(Application application) {
+        try {
+            String text;
+            try {
+                text = extractor.extract(fileUploadService.resolveFile(application.getResumePath()).getPath());
+            } catch (IOException e) {
+                log.warn("Could not extract resume text for application {}: {}", application.getId(), e.getMessage());
+                text = null;
+            }
+            // Unsupported or unreadable files are stored empty so the startup sweep does not retry them
+            mongoTemplate.save(new ResumeText(
+                    application.getId(),
+                    application.getRecruiterId(),
+                    application.getJobId(),
+                    text != null ? text : "",
+                    LocalDateTime.now()));
+            log.debug("Indexed resume text for application {}", application.getId());
+        } catch (Exception e) {
+            log.warn("Could not index resume for application {}: {}", application.getId(), e.getMessage());
+        }
+    }
+
+    // Runs on the pool itself, so it competes with live submissions instead of flooding the queue
+    private void indexMissing() {
+        int batchSize = 200;
+        String lastId = null;
+        int indexed = 0;
+        while (true) {
+            Criteria criteria = Criteria.where("resumePath").ne(null);
+            if (lastId != null) {
+                criteria = criteria.and("_id").gt(new ObjectId(lastId));
+            }
+            Query query = new Query(criteria).with(Sort.by("_id")).limit(batchSize);
+            query.fields().include("jobId", "recruiterId", "resumePath");
+            List<Application> batch = mongoTemplate.find(query, Application.class);
+            if (batch.isEmpty()) {
+                break;
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+
+            Query existing = new Query(Criteria.where("_id").in(batch.stream().map(Application::getId).toList()));
+            existing.fields().include("_id");
+            Set<String> indexedIds = new HashSet<>();
+            mongoTemplate.find(existing, ResumeText.class).forEach(text -> indexedIds.add(text.getId()));
+
+            for (Application application : batch) {
+                if (!indexedIds.contains(application.getId())) {
+                    index(application);
+                    indexed++;
+                }
+            }
+        }
+        if (indexed > 0) {
+            log.info("Indexed {} previously unindexed resumes", indexed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,292 @@
+package com.jobportal.applicationservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributeView;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * On-disk layout for uploaded resumes, shared with user-service through the uploads volume.
+ * Files live under two levels of hashed subdirectories ({@code ab/cd/<name>}) so no single
+ * directory grows unbounded. Every write lands in a temp file first and is renamed into place.
+ * Files not read for a while are gzipped in the background and inflated again on first read.
+ */
+@Slf4j
+@Component
+public class ResumeStorage {
+
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    private static final String TEMP_DIR = ".tmp";
+
+    private final Path root;
+    private final boolean tieringEnabled;
+    private final Duration compressAfter;
+    private final boolean migrateOnStartup;
+
+    public ResumeStorage(
+            @Value("${upload.dir:public/uploads/}") String uploadDir,
+            @Value("${resume-storage.tiering.enabled:true}") boolean tieringEnabled,
+            @Value("${resume-storage.tiering.compress-after-days:30}") long compressAfterDays,
+            @Value("${resume-storage.migrate-on-startup:true}") boolean migrateOnStartup) {
+        this.root = Paths.get(uploadDir);
+        this.tieringEnabled = tieringEnabled;
+        this.compressAfter = Duration.ofDays(compressAfterDays);
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    public Path createTempFile() throws IOException {
+        Path tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "upload-", ".part");
+    }
+
+    /**
+     * Atomically moves a finished temp file to its final sharded location.
+     * Returns false when a file with that name already exists, in which case the temp file is dropped.
+     */
+    public boolean store(Path tempFile, String fileName) throws IOException {
+        Path target = shardPath(fileName);
+        try {
+            if (Files.exists(target) || Files.exists(compressedPath(target))) {
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Returns a readable, uncompressed path for the file, inflating it from the cold tier or
+     * moving it out of the legacy flat directory if needed, and records the access.
+     */
+    public Path open(String fileName) throws IOException {
+        Path target = shardPath(fileName);
+        try {
+            return resolve(fileName, target);
+        } catch (NoSuchFileException e) {
+            // Tiered between the existence check and the touch; the compressed copy is in place by now
+            return resolve(fileName, target);
+        }
+    }
+
+    /**
+     * Every stored file, sharded or still in the legacy flat directory, compressed or not.
+     * Excludes in-flight temp files. The caller must close the stream.
+     */
+    public Stream<Path> walkStoredFiles() throws IOException {
+        return Files.find(root, 3, (path, attrs) -> {
+            if (!attrs.isRegularFile()) {
+                return false;
+            }
+            int depth = root.relativize(path).getNameCount();
+            String name = path.getFileName().toString();
+            return depth == 3 || (depth == 1 && !name.startsWith(".") && !name.endsWith(".part"));
+        });
+    }
+
+    public Stream<Path> walkTempFiles() throws IOException {
+        Path tempDir = root.resolve(TEMP_DIR);
+        return Files.isDirectory(tempDir) ? Files.list(tempDir) : Stream.empty();
+    }
+
+    /** The name a stored file is referenced by, i.e. without the cold-tier suffix. */
+    public static String logicalName(Path file) {
+        String name = file.getFileName().toString();
+        return name.endsWith(COMPRESSED_SUFFIX) ? name.substring(0, name.length() - COMPRESSED_SUFFIX.length()) : name;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateFlatLayout() {
+        if (!migrateOnStartup || !Files.isDirectory(root)) {
+            return;
+        }
+        int moved = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(".") || name.endsWith(".part")) {
+                    continue;
+                }
+                try {
+                    moveIntoShard(file, shardPath(name));
+                    moved++;
+                } catch (NoSuchFileException e) {
+                    // Migrated concurrently by the other service or by a read
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error migrating flat upload directory: {}", e.getMessage());
+        }
+        if (moved > 0) {
+            log.info("Migrated {} uploads into the sharded layout", moved);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${resume-storage.tiering.interval-ms:86400000}",
+            initialDelayString = "${resume-storage.tiering.interval-ms:86400000}")
+    public void compressColdFiles() {
+        if (!tieringEnabled || !Files.isDirectory(root)) {
+            return;
+        }
+        Instant cutoff = Instant.now().minus(compressAfter);
+        int compressed = 0;
+        try (Stream<Path> files = Files.find(root, 3, (path, attrs) -> attrs.isRegularFile()
+                && root.relativize(path).getNameCount() == 3
+                && !path.getFileName().toString().endsWith(COMPRESSED_SUFFIX))) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                try {
+                    if (lastAccess(file).isBefore(cutoff) && compress(file, cutoff)) {
+                        compressed++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // Deleted or already tiered while walking
+                } catch (IOException e) {
+                    log.warn("Could not compress {}: {}", file, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error walking uploads for compression: {}", e.getMessage());
+        }
+        if (compressed > 0) {
+            log.info("Compressed {} resumes not read in {} days", compressed, compressAfter.toDays());
+        }
+    }
+
+    Path shardPath(String fileName) {
+        String name = Paths.get(fileName).getFileName().toString();
+        String shard = HexFormat.of().formatHex(sha256().digest(name.getBytes(StandardCharsets.UTF_8)), 0, 2);
+        return root.resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(name);
+    }
+
+    private boolean compress(Path file, Instant cutoff) throws IOException {
+        FileTime modified = Files.getLastModifiedTime(file);
+        long size = Files.size(file);
+        Path temp = createTempFile();
+        try {
+            try (InputStream in = Files.newInputStream(file);
+                 OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp))) {
+                in.transferTo(out);
+            }
+            if (Files.size(temp) >= size * 9 / 10) {
+                // PDFs and DOCX are often compressed already; keep them as they are and
+                // push their access time forward so the next runs do not retry them
+                touch(file);
+                return false;
+            }
+            // Keep the original mtime so Last-Modified stays stable across tiering
+            Files.setLastModifiedTime(temp, modified);
+            Path compressed = compressedPath(file);
+            Files.move(temp, compressed, StandardCopyOption.ATOMIC_MOVE);
+            // Readers keep using the plain file while it exists; one that opened it during the
+            // gzip has touched it, so keep the plain copy for them and drop the compressed one
+            if (!lastAccess(file).isBefore(cutoff)) {
+                Files.deleteIfExists(compressed);
+                return false;
+            }
+            Files.delete(file);
+            return true;
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private Path resolve(String fileName, Path target) throws IOException {
+        if (!Files.exists(target)) {
+            Path compressed = compressedPath(target);
+            Path legacy = root.resolve(fileName);
+            if (Files.exists(compressed)) {
+                decompress(compressed, target);
+            } else if (Files.isRegularFile(legacy)) {
+                try {
+                    moveIntoShard(legacy, target);
+                } catch (NoSuchFileException e) {
+                    // Moved concurrently by the startup migration
+                }
+            }
+            if (!Files.exists(target)) {
+                throw new NoSuchFileException(target.toString());
+            }
+        }
+        touch(target);
+        return target;
+    }
+
+    private void decompress(Path compressed, Path target) throws IOException {
+        Path temp = createTempFile();
+        try {
+            FileTime modified = Files.getLastModifiedTime(compressed);
+            try (InputStream in = new GZIPInputStream(Files.newInputStream(compressed))) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            Files.setLastModifiedTime(temp, modified);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(compressed);
+        } catch (NoSuchFileException e) {
+            // A concurrent read inflated it first
+            if (!Files.exists(target)) {
+                throw e;
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void moveIntoShard(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        if (Files.exists(target)) {
+            Files.deleteIfExists(source);
+            return;
+        }
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static Instant lastAccess(Path file) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(file, BasicFileAttributes.class);
+        return attrs.lastAccessTime().toInstant();
+    }
+
+    // atime is often not maintained (noatime/relatime), so reads record it explicitly
+    private static void touch(Path file) throws IOException {
+        Files.getFileAttributeView(file, BasicFileAttributeView.class)
+                .setTimes(null, FileTime.from(Instant.now()), null);
+    }
+
+    private static Path compressedPath(Path file) {
+        return file.resolveSibling(file.getFileName() + COMPRESSED_SUFFIX);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.jobportal.applicationservice.service;
+
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Offline text extraction for stored resumes. PDF goes through PDFBox; DOCX is
+ * read straight from word/document.xml. Legacy binary .doc files are not supported.
+ */
+@Component
+public class ResumeTextExtractor {
+
+    private static final int MAX_TEXT_LENGTH = 100_000;
+
+    public String extract(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        String text;
+        if (name.endsWith(".pdf")) {
+            text = extractPdf(file);
+        } else if (name.endsWith(".docx")) {
+            text = extractDocx(file);
+        } else {
+            return null;
+        }
+        text = text.replaceAll("\\s+", " ").trim();
+        return text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+    }
+
+    private String extractPdf(Path file) throws IOException {
+        try (PDDocument document = Loader.loadPDF(file.toFile())) {
+            return new PDFTextStripper().getText(document);
+        }
+    }
+
+    private String extractDocx(Path file) throws IOException {
+        try (ZipFile zip = new ZipFile(file.toFile())) {
+            ZipEntry entry = zip.getEntry("word/document.xml");
+            if (entry == null) {
+                return "";
+            }
+            try (InputStream in = zip.getInputStream(entry)) {
+                return readWordText(in);
+            }
+        }
+    }
+
+    private String readWordText(InputStream in) throws IOException {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+        StringBuilder text = new StringBuilder();
+        try {
+            XMLStreamReader reader = factory.createXMLStreamReader(in);
+            boolean inText = false;
+            while (reader.hasNext() && text.length() < MAX_TEXT_LENGTH) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    inText = "t".equals(reader.getLocalName());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    if ("p".equals(reader.getLocalName())) {
+                        text.append('\n');
+                    }
+                    inText = false;
+                } else if (inText && event == XMLStreamConstants.CHARACTERS) {
+                    text.append(reader.getText());
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Invalid DOCX content", e);
+        }
+        return text.toString();
+    }
+}
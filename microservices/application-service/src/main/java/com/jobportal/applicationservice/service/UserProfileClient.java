@@ -0,0 +1,46 @@
+package com.jobportal.applicationservice.service;
+
+import com.jobportal.applicationservice.dto.UserSummary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+
+/**
+ * Reads profile data from user-service. Only metadata crosses the wire: the resume
+ * itself is already on the shared uploads volume and is referenced by path.
+ */
+@Slf4j
+@Component
+public class UserProfileClient {
+
+    private final RestTemplate restTemplate;
+    private final String userServiceUrl;
+
+    public UserProfileClient(
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${service.urls.user:http://localhost:3002}") String userServiceUrl,
+            @Value("${user-profile-client.connect-timeout-ms:1000}") long connectTimeoutMs,
+            @Value("${user-profile-client.read-timeout-ms:3000}") long readTimeoutMs) {
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
+        this.userServiceUrl = userServiceUrl;
+    }
+
+    /** The stored path of the user's profile resume, or null if they have not uploaded one. */
+    public String getProfileResumePath(String userId) {
+        try {
+            UserSummary user = restTemplate.getForObject(
+                    userServiceUrl + "/api/v1/internal/users/" + userId, UserSummary.class);
+            return user != null ? user.getResume() : null;
+        } catch (HttpClientErrorException.NotFound e) {
+            throw new IllegalArgumentException("User not found");
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.jobportal.applicationservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DurationSketchTest {
+
+    @Test
+    void emptySketchHasNoQuantile() {
+        assertNull(DurationSketch.quantile(null, 0.5));
+        assertNull(DurationSketch.quantile(Map.of(), 0.5));
+        assertNull(DurationSketch.quantile(Map.of("b3", 0L), 0.5));
+    }
+
+    @Test
+    void subSecondAndOneSecondShareTheFirstBucket() {
+        assertEquals("b0", DurationSketch.bucketKey(0));
+        assertEquals("b0", DurationSketch.bucketKey(1));
+        assertEquals(1L, DurationSketch.quantile(Map.of("b0", 4L), 0.5));
+    }
+
+    @Test
+    void singleValueComesBackWithinRelativeAccuracy() {
+        for (long seconds = 2; seconds <= 10_000_000; seconds = seconds * 3 / 2 + 1) {
+            Long estimate = DurationSketch.quantile(Map.of(DurationSketch.bucketKey(seconds), 1L), 0.5);
+            assertWithinAccuracy(seconds, estimate);
+        }
+    }
+
+    @Test
+    void quantilesOfASpreadAreWithinRelativeAccuracyOfTheTrueRank() {
+        Map<String, Long> sketch = new HashMap<>();
+        int n = 1000;
+        for (long seconds = 1; seconds <= n; seconds++) {
+            sketch.merge(DurationSketch.bucketKey(seconds * 60), 1L, Long::sum);
+        }
+        assertEquals(n, DurationSketch.count(sketch));
+        for (double q : new double[]{0.0, 0.5, 0.9, 0.99, 1.0}) {
+            long rank = (long) Math.floor(q * (n - 1));
+            assertWithinAccuracy((rank + 1) * 60, DurationSketch.quantile(sketch, q));
+        }
+    }
+
+    @Test
+    void quantilesAreMonotonic() {
+        Map<String, Long> sketch = Map.of(
+                DurationSketch.bucketKey(30), 5L,
+                DurationSketch.bucketKey(3_600), 3L,
+                DurationSketch.bucketKey(86_400), 2L);
+        long p50 = DurationSketch.quantile(sketch, 0.5);
+        long p90 = DurationSketch.quantile(sketch, 0.9);
+        assertTrue(p50 <= p90);
+        assertWithinAccuracy(30, p50);
+        assertWithinAccuracy(86_400, p90);
+    }
+
+    // Rounding to whole seconds can add half a second on top of the relative error
+    private static void assertWithinAccuracy(long expected, Long actual) {
+        double tolerance = expected * DurationSketch.RELATIVE_ACCURACY + 0.5;
+        assertTrue(Math.abs(actual - expected) <= tolerance,
+                () -> "expected " + expected + " +/- " + tolerance + " but was " + actual);
+    }
+}
@@ -0,0 +1,68 @@
+package com.jobportal.applicationservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FingerprintSetTest {
+
+    @Test
+    void everyAddedValueIsFoundAfterGrowingPastTheExpectedSize() {
+        // Missing a marked path would let the GC delete a live resume, so no false negatives
+        FingerprintSet set = new FingerprintSet(16);
+        for (int i = 0; i < 50_000; i++) {
+            set.add(path(i));
+        }
+        assertEquals(50_000, set.size());
+        for (int i = 0; i < 50_000; i++) {
+            assertTrue(set.contains(path(i)), path(i));
+        }
+    }
+
+    @Test
+    void absentValuesAreNotReportedAtRealisticSizes() {
+        // A false positive only keeps an orphan for another run; with 64-bit fingerprints
+        // none should show up across this many probes
+        FingerprintSet set = new FingerprintSet(50_000);
+        for (int i = 0; i < 50_000; i++) {
+            set.add(path(i));
+        }
+        int falsePositives = 0;
+        for (int i = 50_000; i < 250_000; i++) {
+            if (set.contains(path(i))) {
+                falsePositives++;
+            }
+        }
+        assertEquals(0, falsePositives);
+    }
+
+    @Test
+    void duplicatesAreStoredOnce() {
+        FingerprintSet set = new FingerprintSet(16);
+        set.add("/uploads/resume-a.pdf");
+        set.add("/uploads/resume-a.pdf");
+        assertEquals(1, set.size());
+    }
+
+    @Test
+    void emptySetContainsNothing() {
+        FingerprintSet set = new FingerprintSet(0);
+        assertFalse(set.contains(""));
+        assertFalse(set.contains("/uploads/resume-a.pdf"));
+    }
+
+    @Test
+    void fingerprintNeverUsesTheEmptySlotMarker() {
+        assertNotEquals(0, FingerprintSet.fingerprint(""));
+        FingerprintSet set = new FingerprintSet(16);
+        set.add("");
+        assertTrue(set.contains(""));
+    }
+
+    private static String path(int i) {
+        return "/uploads/resume-" + i + ".pdf";
+    }
+}
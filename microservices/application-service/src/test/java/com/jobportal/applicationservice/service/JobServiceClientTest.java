@@ -0,0 +1,142 @@
+package com.jobportal.applicationservice.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class JobServiceClientTest {
+
+    private static final long OPEN_DURATION_MS = 100;
+
+    private final AtomicInteger served = new AtomicInteger();
+    private volatile HttpStatus respondWith;
+
+    @Test
+    void staysClosedBelowMinimumCalls() {
+        JobServiceClient client = client(4, 1);
+        respondWith = HttpStatus.SERVICE_UNAVAILABLE;
+        for (int i = 0; i < 3; i++) {
+            assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        }
+        respondWith = HttpStatus.OK;
+        assertEquals("ok", call(client));
+        assertEquals(4, served.get());
+    }
+
+    @Test
+    void opensAtTheFailureRateThresholdAndFailsFast() {
+        JobServiceClient client = client(4, 1);
+        respondWith = HttpStatus.OK;
+        call(client);
+        call(client);
+        respondWith = HttpStatus.SERVICE_UNAVAILABLE;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+
+        // Two failures out of four is exactly 50%: open, so the next call never reaches job-service
+        respondWith = HttpStatus.OK;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        assertEquals(4, served.get());
+    }
+
+    @Test
+    void clientErrorsDoNotCountAsFailures() {
+        JobServiceClient client = client(4, 1);
+        respondWith = HttpStatus.NOT_FOUND;
+        for (int i = 0; i < 8; i++) {
+            assertThrows(HttpClientErrorException.NotFound.class, () -> call(client));
+        }
+        respondWith = HttpStatus.OK;
+        assertEquals("ok", call(client));
+    }
+
+    @Test
+    void halfOpenClosesAfterEnoughTrialSuccesses() throws InterruptedException {
+        JobServiceClient client = client(2, 2);
+        open(client);
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        respondWith = HttpStatus.OK;
+        call(client);
+        call(client);
+
+        // Closed with a fresh window: one failure is below the minimum again
+        respondWith = HttpStatus.SERVICE_UNAVAILABLE;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        respondWith = HttpStatus.OK;
+        assertEquals("ok", call(client));
+    }
+
+    @Test
+    void failedTrialReopensTheCircuit() throws InterruptedException {
+        JobServiceClient client = client(2, 2);
+        open(client);
+        Thread.sleep(OPEN_DURATION_MS + 20);
+
+        respondWith = HttpStatus.SERVICE_UNAVAILABLE;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        int servedBefore = served.get();
+
+        respondWith = HttpStatus.OK;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        assertEquals(servedBefore, served.get());
+    }
+
+    @Test
+    void fullBulkheadRejectsWithoutCallingJobService() {
+        JobServiceClient client = client(0, 4, 1);
+        respondWith = HttpStatus.OK;
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        assertEquals(0, served.get());
+    }
+
+    private void open(JobServiceClient client) {
+        respondWith = HttpStatus.SERVICE_UNAVAILABLE;
+        for (int i = 0; i < 4; i++) {
+            assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        }
+        int servedBefore = served.get();
+        assertThrows(JobServiceUnavailableException.class, () -> call(client));
+        assertEquals(servedBefore, served.get());
+    }
+
+    private static String call(JobServiceClient client) {
+        return client.get("/api/v1/jobs/internal/1", String.class);
+    }
+
+    private JobServiceClient client(int minimumCalls, int halfOpenCalls) {
+        return client(16, minimumCalls, halfOpenCalls);
+    }
+
+    // Window of 4 calls opening at 50% failures; SERVICE_UNAVAILABLE makes the mock refuse the connection
+    private JobServiceClient client(int maxConcurrent, int minimumCalls, int halfOpenCalls) {
+        MockServerRestTemplateCustomizer mockServer = new MockServerRestTemplateCustomizer();
+        JobServiceClient client = new JobServiceClient(new RestTemplateBuilder(mockServer), new SimpleMeterRegistry(),
+                "http://job-service", 1000, 1000, maxConcurrent, 0,
+                4, minimumCalls, 50, OPEN_DURATION_MS, halfOpenCalls);
+        mockServer.getServer().expect(ExpectedCount.manyTimes(), request -> { })
+                .andRespond(request -> {
+                    served.incrementAndGet();
+                    if (respondWith == HttpStatus.SERVICE_UNAVAILABLE) {
+                        throw new IOException("Connection refused");
+                    }
+                    return respondWith.is2xxSuccessful()
+                            ? withSuccess("ok", MediaType.TEXT_PLAIN).createResponse(request)
+                            : withStatus(respondWith).createResponse(request);
+                });
+        return client;
+    }
+}
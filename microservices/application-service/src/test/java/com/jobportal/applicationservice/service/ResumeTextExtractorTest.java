@@ -0,0 +1,106 @@
+package com.jobportal.applicationservice.service;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ResumeTextExtractorTest {
+
+    private static final String WORD_NS = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+
+    private final ResumeTextExtractor extractor = new ResumeTextExtractor();
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void docxTextRunsAreJoinedAndParagraphsSeparated() throws IOException {
+        Path file = docx("resume.docx", "<w:document xmlns:w=\"" + WORD_NS + "\"><w:body>"
+                + "<w:p><w:r><w:t>Senior Java</w:t></w:r><w:r><w:t xml:space=\"preserve\"> developer</w:t></w:r></w:p>"
+                + "<w:p><w:pPr><w:tabs/></w:pPr><w:r><w:t>Spring Boot, MongoDB</w:t></w:r></w:p>"
+                + "</w:body></w:document>");
+        assertEquals("Senior Java developer Spring Boot, MongoDB", extractor.extract(file));
+    }
+
+    @Test
+    void docxWithoutDocumentPartIsEmpty() throws IOException {
+        Path file = dir.resolve("empty.docx");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("[Content_Types].xml"));
+            zip.closeEntry();
+        }
+        assertEquals("", extractor.extract(file));
+    }
+
+    @Test
+    void docxWithExternalEntityIsRejected() throws IOException {
+        Path secret = Files.writeString(dir.resolve("secret.txt"), "do-not-leak");
+        Path file = docx("xxe.docx", "<!DOCTYPE d [<!ENTITY x SYSTEM \"" + secret.toUri() + "\">]>"
+                + "<w:document xmlns:w=\"" + WORD_NS + "\"><w:body><w:p><w:r><w:t>a&x;b</w:t></w:r></w:p></w:body></w:document>");
+        // DTDs are disabled, so the reference fails to parse instead of reading the file
+        assertThrows(IOException.class, () -> extractor.extract(file));
+    }
+
+    @Test
+    void malformedDocxXmlIsAnIoError() throws IOException {
+        Path file = docx("broken.docx", "<w:document xmlns:w=\"" + WORD_NS + "\"><w:body><w:p>");
+        assertThrows(IOException.class, () -> extractor.extract(file));
+    }
+
+    @Test
+    void pdfTextIsExtractedWithWhitespaceCollapsed() throws IOException {
+        Path file = dir.resolve("resume.pdf");
+        try (PDDocument document = new PDDocument()) {
+            PDPage page = new PDPage();
+            document.addPage(page);
+            try (PDPageContentStream content = new PDPageContentStream(document, page)) {
+                content.beginText();
+                content.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                content.newLineAtOffset(72, 700);
+                content.showText("Kotlin   and Kafka");
+                content.newLineAtOffset(0, -20);
+                content.showText("Team lead");
+                content.endText();
+            }
+            document.save(file.toFile());
+        }
+        assertEquals("Kotlin and Kafka Team lead", extractor.extract(file));
+    }
+
+    @Test
+    void corruptPdfIsAnIoError() throws IOException {
+        Path file = Files.writeString(dir.resolve("corrupt.pdf"), "%PDF-1.7 not really");
+        assertThrows(IOException.class, () -> extractor.extract(file));
+    }
+
+    @Test
+    void legacyDocAndOtherFormatsAreUnsupported() throws IOException {
+        assertNull(extractor.extract(Files.writeString(dir.resolve("resume.doc"), "binary")));
+        assertNull(extractor.extract(Files.writeString(dir.resolve("resume.txt"), "plain")));
+    }
+
+    private Path docx(String name, String documentXml) throws IOException {
+        Path file = dir.resolve(name);
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(file))) {
+            zip.putNextEntry(new ZipEntry("word/document.xml"));
+            zip.write(documentXml.getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        return file;
+    }
+}
@@ -10,6 +10,8 @@ db.auth('admin', 'admin123');
 db = db.getSiblingDB('auth-db');
 db.createCollection('users');
 db.users.createIndex({ email: 1 }, { unique: true });
+db.users.createIndex({ role: 1, _id: -1 }, { name: 'role_id_idx' });
+db.users.createIndex({ username: 1 }, { name: 'username_idx' });
 
 // Create user-db
 db = db.getSiblingDB('user-db');
@@ -21,12 +23,25 @@ db = db.getSiblingDB('job-db');
 db.createCollection('jobs');
 db.jobs.createIndex({ createdBy: 1 });
 db.jobs.createIndex({ createdAt: -1 });
+db.jobs.createIndex({ status: 1, createdAt: -1, _id: -1 });
+db.jobs.createIndex({ skills: 1 });
 
 // Create application-db
 db = db.getSiblingDB('application-db');
 db.createCollection('applications');
-db.applications.createIndex({ jobId: 1, applicantId: 1 }, { unique: true });
+db.applications.createIndex({ jobId: 1, applicantId: 1 }, { unique: true, name: 'job_applicant_idx' });
 db.applications.createIndex({ recruiterId: 1 });
+db.applications.createIndex({ recruiterId: 1, jobId: 1, status: 1 });
 db.applications.createIndex({ applicantId: 1 });
+db.createCollection('resume_texts');
+db.resume_texts.createIndex({ recruiterId: 1, text: 'text' }, { name: 'recruiter_text_idx' });
+db.createCollection('job_application_counters');
+db.createCollection('funnel_rollups');
+db.createCollection('apply_tasks');
+db.apply_tasks.createIndex({ userId: 1, jobId: 1 }, { name: 'active_user_job_idx', unique: true, partialFilterExpression: { active: true } });
+db.apply_tasks.createIndex({ state: 1, nextAttemptAt: 1 }, { name: 'state_next_attempt_idx' });
+db.apply_tasks.createIndex({ expiresAt: 1 }, { name: 'expires_ttl_idx', expireAfterSeconds: 0 });
+// The created_ttl_idx TTL index is created by application-service from idempotency.ttl-hours
+db.createCollection('idempotency_keys');
 
 print('MongoDB initialization complete: Created 4 databases with indexes');
@@ -1,18 +1,30 @@
 package com.jobportal.jobservice.controller;
 
 import com.jobportal.jobservice.dto.ApiResponse;
+import com.jobportal.jobservice.dto.AvailableJobsRequest;
 import com.jobportal.jobservice.dto.CreateJobRequest;
 import com.jobportal.jobservice.dto.JobCountDTO;
+import com.jobportal.jobservice.dto.JobCursorPage;
 import com.jobportal.jobservice.dto.JobResponse;
+import com.jobportal.jobservice.dto.SearchAnalyticsDTO;
+import com.jobportal.jobservice.dto.SearchCacheStatsDTO;
+import com.jobportal.jobservice.dto.SkillFacetDTO;
 import com.jobportal.jobservice.service.JobService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -20,6 +32,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobController {
 
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final JobService jobService;
 
     @PostMapping
@@ -46,11 +60,23 @@ public class JobController {
     @GetMapping
     public ResponseEntity<ApiResponse<Page<JobResponse>>> searchJobs(
             @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> skills,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
         try {
-            Page<JobResponse> jobs = jobService.searchJobs(search, page, size);
-            return ResponseEntity.ok(new ApiResponse<>(true, jobs, "Jobs retrieved successfully"));
+            Page<JobResponse> jobs = jobService.searchJobs(search, skills, page, size);
+            String etag = pageETag(jobs);
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+            return ResponseEntity.ok()
+                    .eTag(etag)
+                    .cacheControl(CacheControl.noCache())
+                    .body(new ApiResponse<>(true, jobs, "Jobs retrieved successfully"));
         } catch (Exception e) {
             log.error("Search jobs error", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -58,6 +84,21 @@ public class JobController {
         }
     }
 
+    @GetMapping("/skill-facets")
+    public ResponseEntity<ApiResponse<List<SkillFacetDTO>>> getSkillFacets(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "20") int limit) {
+        try {
+            List<SkillFacetDTO> facets = jobService.getSkillFacets(search, skills, limit);
+            return ResponseEntity.ok(new ApiResponse<>(true, facets, "Skill facets retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Get skill facets error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve skill facets"));
+        }
+    }
+
     @GetMapping("/my-jobs")
     public ResponseEntity<ApiResponse<List<JobResponse>>> getMyJobs(
             @RequestHeader("X-USER-ID") String userId) {
@@ -72,10 +113,30 @@ public class JobController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable String id) {
+    public ResponseEntity<ApiResponse<JobResponse>> getJob(@PathVariable String id, WebRequest webRequest) {
         try {
+            // Cheap projected lookup first so revalidations never load the full document
+            Optional<LocalDateTime> lastModified = jobService.getJobLastModified(id);
+            if (lastModified.isPresent()) {
+                String etag = documentETag(id, lastModified.get());
+                long lastModifiedMillis = toEpochMillis(lastModified.get());
+                if (webRequest.checkNotModified(etag, lastModifiedMillis)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                            .eTag(etag)
+                            .lastModified(lastModifiedMillis)
+                            .cacheControl(CacheControl.noCache())
+                            .build();
+                }
+            }
+
             JobResponse job = jobService.getJob(id);
-            return ResponseEntity.ok(new ApiResponse<>(true, job, "Job retrieved successfully"));
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+            if (job.getUpdatedAt() != null) {
+                LocalDateTime updatedAt = LocalDateTime.parse(job.getUpdatedAt());
+                builder.eTag(documentETag(job.getId(), updatedAt))
+                        .lastModified(toEpochMillis(updatedAt));
+            }
+            return builder.body(new ApiResponse<>(true, job, "Job retrieved successfully"));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ApiResponse<>(false, null, e.getMessage()));
@@ -121,15 +182,52 @@ public class JobController {
         }
     }
 
+    @GetMapping("/admin/search-analytics")
+    public ResponseEntity<ApiResponse<SearchAnalyticsDTO>> getSearchAnalytics(
+            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole) {
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse<>(false, null, "Only admins can access this resource"));
+        }
+
+        return ResponseEntity.ok(new ApiResponse<>(true, jobService.getSearchAnalytics(), "Search analytics retrieved"));
+    }
+
     @GetMapping("/internal/{id}")
     public ResponseEntity<JobResponse> getJobInternal(@PathVariable String id) {
         try {
-            return ResponseEntity.ok(jobService.getJob(id));
+            return ResponseEntity.ok(jobService.getCurrentJob(id));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         }
     }
 
+    @PostMapping("/internal/batch")
+    public ResponseEntity<List<JobResponse>> getJobsInternal(@RequestBody List<String> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(jobService.getJobs(ids));
+        } catch (Exception e) {
+            log.error("Error getting jobs batch: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @PostMapping("/internal/available")
+    public ResponseEntity<JobCursorPage> getAvailableJobsInternal(@RequestBody AvailableJobsRequest request) {
+        try {
+            int size = Math.min(Math.max(request.getSize(), 1), 100);
+            return ResponseEntity.ok(jobService.getAvailableJobs(request.getExcludeIds(), request.getCursor(), size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            log.error("Error getting available jobs: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @DeleteMapping("/internal/user/{userId}")
     public ResponseEntity<Void> deleteJobsByUser(@PathVariable String userId) {
         try {
@@ -152,9 +250,33 @@ public class JobController {
         }
     }
 
+    @GetMapping("/internal/search-cache/stats")
+    public ResponseEntity<SearchCacheStatsDTO> getSearchCacheStats() {
+        return ResponseEntity.ok(jobService.getSearchCacheStats());
+    }
+
     @GetMapping("/internal/monthly-stats")
     public ResponseEntity<?> getMonthlyStats() {
         // For now, return empty list. Can be enhanced later
         return ResponseEntity.ok(List.of());
     }
+
+    private static String documentETag(String id, LocalDateTime updatedAt) {
+        return "\"" + id + "-" + Long.toHexString(toEpochMillis(updatedAt)) + "\"";
+    }
+
+    private static String pageETag(Page<JobResponse> page) {
+        StringBuilder fingerprint = new StringBuilder()
+                .append(page.getNumber()).append('/')
+                .append(page.getSize()).append('/')
+                .append(page.getTotalElements());
+        for (JobResponse job : page.getContent()) {
+            fingerprint.append('|').append(job.getId()).append(':').append(job.getUpdatedAt());
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(fingerprint.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
 }
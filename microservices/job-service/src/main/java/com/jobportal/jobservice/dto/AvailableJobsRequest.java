@@ -0,0 +1,15 @@
+package com.jobportal.jobservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableJobsRequest {
+    private List<String> excludeIds;
+    private String cursor;
+    private int size;
+}
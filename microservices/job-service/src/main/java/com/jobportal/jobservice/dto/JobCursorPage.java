@@ -0,0 +1,15 @@
+package com.jobportal.jobservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobCursorPage {
+    private List<JobResponse> content;
+    private String nextCursor;
+    private boolean hasMore;
+}
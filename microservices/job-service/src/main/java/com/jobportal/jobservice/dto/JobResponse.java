@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,6 +19,7 @@ public class JobResponse {
     private String position;
     private String jobType;
     private String status;
+    private List<String> skills;
     private String createdBy;
     private String createdAt;
     private String updatedAt;
@@ -0,0 +1,35 @@
+package com.jobportal.jobservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchAnalyticsDTO {
+    private long windowMinutes;
+    private long totalSearches;
+    private List<QueryCount> topQueries;
+    private List<QueryCount> zeroResultQueries;
+    private List<SlowQuery> slowestQueries;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueryCount {
+        private String query;
+        private long count;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlowQuery {
+        private String query;
+        private long latencyMillis;
+        private String observedAt;
+    }
+}
@@ -0,0 +1,26 @@
+package com.jobportal.jobservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchCacheStatsDTO {
+    private long generation;
+    private int size;
+    private int maxEntries;
+    private Map<String, QueryClassStats> queryClasses;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class QueryClassStats {
+        private long hits;
+        private long misses;
+        private double hitRatio;
+    }
+}
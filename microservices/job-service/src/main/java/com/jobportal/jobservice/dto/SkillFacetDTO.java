@@ -0,0 +1,13 @@
+package com.jobportal.jobservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillFacetDTO {
+    private String skill;
+    private long count;
+}
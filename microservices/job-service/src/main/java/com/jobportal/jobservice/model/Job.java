@@ -5,13 +5,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.index.Indexed;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "jobs")
+@CompoundIndex(name = "status_created_idx", def = "{'status': 1, 'createdAt': -1, '_id': -1}")
 public class Job {
 
     @Id
@@ -33,6 +36,9 @@ public class Job {
 
     private String status; // ACTIVE, CLOSED
 
+    @Indexed
+    private List<String> skills; // normalized tags extracted from title and description
+
     @Indexed
     private String createdBy; // userId of recruiter
 
@@ -0,0 +1,25 @@
+package com.jobportal.jobservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "search_warmup")
+public class SearchWarmup {
+
+    public static final String TOP_QUERIES_ID = "top-queries";
+
+    @Id
+    private String id;
+
+    private List<String> queries;
+
+    private LocalDateTime updatedAt;
+}
@@ -7,18 +7,25 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends MongoRepository<Job, String> {
 
     List<Job> findByCreatedBy(String userId);
 
+    @Query(value = "{ '_id': ?0 }", fields = "{ 'updatedAt': 1 }")
+    Optional<Job> findUpdatedAtById(String id);
+
     Page<Job> findAll(Pageable pageable);
 
     Page<Job> findByStatus(String status, Pageable pageable);
 
     long countByStatus(String status);
 
+    @Query("{ 'skills': { $exists: false } }")
+    Page<Job> findWithoutSkills(Pageable pageable);
+
     @Query("{ $text: { $search: ?0 } }")
     Page<Job> search(String searchTerm, Pageable pageable);
 
@@ -0,0 +1,9 @@
+package com.jobportal.jobservice.repository;
+
+import com.jobportal.jobservice.model.SearchWarmup;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SearchWarmupRepository extends MongoRepository<SearchWarmup, String> {
+}
@@ -0,0 +1,82 @@
+package com.jobportal.jobservice.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size frequency sketch. Estimates never undercount; overcount is bounded
+ * by the width, and sketches with the same shape can be merged by addition.
+ * Cells are atomic, so concurrent adds need no lock.
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicLongArray[] counts;
+
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.counts = new AtomicLongArray[depth];
+        for (int i = 0; i < depth; i++) {
+            counts[i] = new AtomicLongArray(width);
+        }
+    }
+
+    // Returns the estimate after the add, saving a second hashing pass
+    long add(String key, long count) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counts[i].addAndGet(bucket(h1, h2, i), count));
+        }
+        return min;
+    }
+
+    long estimate(String key) {
+        long hash = hash64(key);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        long min = Long.MAX_VALUE;
+        for (int i = 0; i < depth; i++) {
+            min = Math.min(min, counts[i].get(bucket(h1, h2, i)));
+        }
+        return min;
+    }
+
+    void merge(CountMinSketch other) {
+        for (int i = 0; i < depth; i++) {
+            for (int j = 0; j < width; j++) {
+                counts[i].addAndGet(j, other.counts[i].get(j));
+            }
+        }
+    }
+
+    void clear() {
+        for (AtomicLongArray row : counts) {
+            for (int j = 0; j < width; j++) {
+                row.set(j, 0L);
+            }
+        }
+    }
+
+    private int bucket(int h1, int h2, int row) {
+        int combined = h1 + row * h2;
+        return (combined & Integer.MAX_VALUE) % width;
+    }
+
+    // FNV-1a over UTF-8 bytes followed by a 64-bit finalizer
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
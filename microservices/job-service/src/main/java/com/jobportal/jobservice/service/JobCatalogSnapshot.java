@@ -0,0 +1,363 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.dto.JobResponse;
+import com.jobportal.jobservice.model.Job;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Compact binary snapshot of all ACTIVE jobs, memory-mapped read-only.
+ *
+ * Layout: header, dictionary (offset/length pairs for location, company and
+ * jobType values), fixed-width records ordered by createdAt descending, an id
+ * index sorted for binary search, and a UTF-8 string heap. Reads decode
+ * straight from the mapping, so a freshly started instance can answer
+ * public job reads and the first browse pages before Mongo and the caches are warm.
+ * Serving stops once the first refresh from Mongo completes (after the configured initial
+ * delay) or a job is written; the file keeps being refreshed so the next start has a recent copy.
+ */
+@Slf4j
+@Component
+public class JobCatalogSnapshot {
+
+    private static final int MAGIC = 0x4A435331; // "JCS1"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 44;
+    private static final int STRING_REF_SIZE = 8;
+    private static final int RECORD_SIZE = 7 * STRING_REF_SIZE + 3 * 4 + 2 * 8;
+    private static final int NULL_REF = -1;
+
+    private final MongoTemplate mongoTemplate;
+    private final boolean enabled;
+    private final Path snapshotPath;
+    private final int maxPages;
+
+    private volatile Snapshot current;
+    private volatile boolean serving;
+
+    public JobCatalogSnapshot(
+            MongoTemplate mongoTemplate,
+            @Value("${job.catalog-snapshot.enabled:true}") boolean enabled,
+            @Value("${job.catalog-snapshot.path:data/job-catalog.snap}") String snapshotPath,
+            @Value("${job.catalog-snapshot.max-pages:5}") int maxPages) {
+        this.mongoTemplate = mongoTemplate;
+        this.enabled = enabled;
+        this.snapshotPath = Paths.get(snapshotPath);
+        this.maxPages = maxPages;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (!enabled || !Files.exists(snapshotPath)) {
+            return;
+        }
+        try {
+            current = Snapshot.map(snapshotPath);
+            serving = true;
+            log.info("Mapped job catalog snapshot: {} active jobs written at {}",
+                    current.recordCount, Instant.ofEpochMilli(current.writtenAt));
+        } catch (Exception e) {
+            log.warn("Ignoring unreadable job catalog snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    public Optional<JobResponse> findJob(String jobId) {
+        Snapshot snapshot = current;
+        if (!serving || snapshot == null) {
+            return Optional.empty();
+        }
+        int index = snapshot.indexOf(jobId);
+        return index < 0 ? Optional.empty() : Optional.of(snapshot.read(index));
+    }
+
+    public Optional<Page<JobResponse>> findBrowsePage(int page, int size) {
+        Snapshot snapshot = current;
+        if (!serving || snapshot == null || page < 0 || page >= maxPages || size <= 0) {
+            return Optional.empty();
+        }
+        int from = page * size;
+        int to = Math.min(from + size, snapshot.recordCount);
+        List<JobResponse> content = new ArrayList<>(Math.max(0, to - from));
+        for (int i = from; i < to; i++) {
+            content.add(snapshot.read(i));
+        }
+        return Optional.of(new PageImpl<>(content,
+                PageRequest.of(page, size, Sort.by("createdAt").descending()), snapshot.recordCount));
+    }
+
+    public void markStale() {
+        serving = false;
+    }
+
+    // The first rebuild waits out the cold-start window, when Mongo is busiest and the search
+    // cache is still warming, so the snapshot keeps serving for at least that long
+    @Scheduled(initialDelayString = "${job.catalog-snapshot.initial-delay-ms:120000}",
+            fixedDelayString = "${job.catalog-snapshot.refresh-interval-ms:300000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long start = System.currentTimeMillis();
+            // Kept current for the next cold start; this instance stops serving it after the first refresh
+            int written = write();
+            if (serving) {
+                serving = false;
+                log.info("Job catalog caught up from Mongo, reads now served from the database");
+            }
+            current = null;
+            log.debug("Job catalog snapshot refreshed: {} jobs in {} ms", written, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Error refreshing job catalog snapshot: {}", e.getMessage());
+        }
+    }
+
+    // Records and the string heap are streamed to temp files next to the snapshot and spliced
+    // into it, so a rebuild holds only the dictionary and the id index in memory
+    private int write() throws IOException {
+        Query query = new Query(Criteria.where("status").is("ACTIVE"))
+                .with(Sort.by("createdAt").descending());
+
+        Path parent = snapshotPath.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path recordsFile = Files.createTempFile(parent, "job-catalog-records", ".tmp");
+        Path heapFile = Files.createTempFile(parent, "job-catalog-heap", ".tmp");
+        Path temp = Files.createTempFile(parent, "job-catalog", ".tmp");
+        try {
+            ByteArrayOutputStream dictionaryBytes = new ByteArrayOutputStream();
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            List<String> ids = new ArrayList<>();
+            int recordsSize;
+            int heapSize;
+
+            try (DataOutputStream records = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(recordsFile)));
+                 DataOutputStream heap = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(heapFile)));
+                 Stream<Job> jobs = mongoTemplate.stream(query, Job.class)) {
+                for (Job job : (Iterable<Job>) jobs::iterator) {
+                    ids.add(job.getId());
+                    writeString(records, heap, job.getId());
+                    writeString(records, heap, job.getTitle());
+                    writeString(records, heap, job.getDescription());
+                    writeString(records, heap, job.getSalary());
+                    writeString(records, heap, job.getPosition());
+                    writeString(records, heap, job.getCreatedBy());
+                    writeString(records, heap, job.getSkills() != null ? String.join(",", job.getSkills()) : null);
+                    records.writeInt(dictionaryIndex(dictionary, job.getLocation()));
+                    records.writeInt(dictionaryIndex(dictionary, job.getCompany()));
+                    records.writeInt(dictionaryIndex(dictionary, job.getJobType()));
+                    records.writeLong(toEpochMillis(job.getCreatedAt()));
+                    records.writeLong(toEpochMillis(job.getUpdatedAt()));
+                }
+
+                DataOutputStream dictionaryOut = new DataOutputStream(dictionaryBytes);
+                for (String value : dictionary.keySet()) {
+                    writeString(dictionaryOut, heap, value);
+                }
+                recordsSize = records.size();
+                heapSize = heap.size();
+            }
+
+            Integer[] order = new Integer[ids.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing(ids::get));
+            ByteBuffer idIndex = ByteBuffer.allocate(order.length * 4);
+            for (Integer index : order) {
+                idIndex.putInt(index);
+            }
+
+            int dictOffset = HEADER_SIZE;
+            int recordsOffset = dictOffset + dictionaryBytes.size();
+            int idIndexOffset = recordsOffset + recordsSize;
+            int heapOffset = idIndexOffset + idIndex.capacity();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putLong(System.currentTimeMillis())
+                    .putInt(ids.size())
+                    .putInt(dictionary.size())
+                    .putInt(dictOffset)
+                    .putInt(recordsOffset)
+                    .putInt(idIndexOffset)
+                    .putInt(heapOffset)
+                    .putInt(heapSize);
+
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                writeFully(channel, header.flip());
+                writeFully(channel, ByteBuffer.wrap(dictionaryBytes.toByteArray()));
+                transfer(recordsFile, channel);
+                writeFully(channel, idIndex.flip());
+                transfer(heapFile, channel);
+                channel.force(true);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return ids.size();
+        } finally {
+            Files.deleteIfExists(recordsFile);
+            Files.deleteIfExists(heapFile);
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void transfer(Path source, FileChannel target) throws IOException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += in.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static void writeString(DataOutputStream out, DataOutputStream heap, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(0);
+            out.writeInt(NULL_REF);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(heap.size());
+        out.writeInt(bytes.length);
+        heap.write(bytes);
+    }
+
+    private static int dictionaryIndex(Map<String, Integer> dictionary, String value) {
+        return value == null ? NULL_REF : dictionary.computeIfAbsent(value, k -> dictionary.size());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime == null ? Long.MIN_VALUE : dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static String toDateString(long epochMillis) {
+        return epochMillis == Long.MIN_VALUE ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault()).toString();
+    }
+
+    private static final class Snapshot {
+        private final MappedByteBuffer buffer;
+        private final long writtenAt;
+        private final int recordCount;
+        private final int dictOffset;
+        private final int recordsOffset;
+        private final int idIndexOffset;
+        private final int heapOffset;
+
+        private Snapshot(MappedByteBuffer buffer) {
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                throw new IllegalStateException("Unsupported snapshot format");
+            }
+            this.buffer = buffer;
+            this.writtenAt = buffer.getLong(8);
+            this.recordCount = buffer.getInt(16);
+            this.dictOffset = buffer.getInt(24);
+            this.recordsOffset = buffer.getInt(28);
+            this.idIndexOffset = buffer.getInt(32);
+            this.heapOffset = buffer.getInt(36);
+        }
+
+        private static Snapshot map(Path path) throws IOException {
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                return new Snapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            }
+        }
+
+        private int indexOf(String id) {
+            int low = 0;
+            int high = recordCount - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int record = buffer.getInt(idIndexOffset + mid * 4);
+                int cmp = readString(recordsOffset + record * RECORD_SIZE).compareTo(id);
+                if (cmp == 0) {
+                    return record;
+                } else if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return -1;
+        }
+
+        private JobResponse read(int index) {
+            int base = recordsOffset + index * RECORD_SIZE;
+            int dictBase = base + 7 * STRING_REF_SIZE;
+            String skills = readString(base + 6 * STRING_REF_SIZE);
+
+            JobResponse response = new JobResponse();
+            response.setId(readString(base));
+            response.setTitle(readString(base + STRING_REF_SIZE));
+            response.setDescription(readString(base + 2 * STRING_REF_SIZE));
+            response.setSalary(readString(base + 3 * STRING_REF_SIZE));
+            response.setPosition(readString(base + 4 * STRING_REF_SIZE));
+            response.setCreatedBy(readString(base + 5 * STRING_REF_SIZE));
+            response.setSkills(skills == null ? null : skills.isEmpty() ? List.of() : List.of(skills.split(",")));
+            response.setLocation(readDictionary(buffer.getInt(dictBase)));
+            response.setCompany(readDictionary(buffer.getInt(dictBase + 4)));
+            response.setJobType(readDictionary(buffer.getInt(dictBase + 8)));
+            response.setStatus("ACTIVE");
+            response.setCreatedAt(toDateString(buffer.getLong(dictBase + 12)));
+            response.setUpdatedAt(toDateString(buffer.getLong(dictBase + 20)));
+            return response;
+        }
+
+        private String readDictionary(int index) {
+            return index == NULL_REF ? null : readString(dictOffset + index * STRING_REF_SIZE);
+        }
+
+        private String readString(int refPosition) {
+            int offset = buffer.getInt(refPosition);
+            int length = buffer.getInt(refPosition + 4);
+            if (length == NULL_REF) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(heapOffset + offset, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
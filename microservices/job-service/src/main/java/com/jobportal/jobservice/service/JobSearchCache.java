@@ -0,0 +1,153 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.dto.JobResponse;
+import com.jobportal.jobservice.dto.SearchCacheStatsDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of search result pages.
+ * Every key carries the generation it was loaded in, so bumping the generation
+ * on a job write invalidates all pages at once; stale entries simply age out.
+ * Concurrent misses for the same key share one in-flight load.
+ */
+@Slf4j
+@Component
+public class JobSearchCache {
+
+    public static final String CLASS_BROWSE = "browse";
+    public static final String CLASS_KEYWORD = "keyword";
+    public static final String CLASS_SKILL = "skill";
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, Counters> counters = new ConcurrentHashMap<>();
+    private final Map<CacheKey, Entry> entries;
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final boolean enabled;
+
+    public JobSearchCache(
+            @Value("${job.search-cache.enabled:true}") boolean enabled,
+            @Value("${job.search-cache.max-entries:500}") int maxEntries,
+            @Value("${job.search-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+                return size() > JobSearchCache.this.maxEntries;
+            }
+        };
+    }
+
+    public Page<JobResponse> get(String search, List<String> skills, int page, int size,
+                                 Supplier<Page<JobResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        String normalized = normalize(search);
+        String queryClass = !skills.isEmpty() ? CLASS_SKILL : normalized.isEmpty() ? CLASS_BROWSE : CLASS_KEYWORD;
+        CacheKey key = new CacheKey(generation.get(), normalized, String.join(",", skills), page, size);
+
+        Entry entry;
+        boolean owner = false;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry == null || entry.isExpired(ttlMillis)) {
+                entry = new Entry();
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        Counters classCounters = counters.computeIfAbsent(queryClass, k -> new Counters());
+        if (!owner) {
+            classCounters.hits.increment();
+            return join(entry.future);
+        }
+
+        classCounters.misses.increment();
+        try {
+            Page<JobResponse> result = loader.get();
+            entry.future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(key, entry);
+            }
+            entry.future.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public void invalidate() {
+        long current = generation.incrementAndGet();
+        log.debug("Job search cache invalidated, generation now {}", current);
+    }
+
+    public SearchCacheStatsDTO getStats() {
+        Map<String, SearchCacheStatsDTO.QueryClassStats> classes = new LinkedHashMap<>();
+        counters.forEach((queryClass, c) -> {
+            long hits = c.hits.sum();
+            long misses = c.misses.sum();
+            long total = hits + misses;
+            classes.put(queryClass, new SearchCacheStatsDTO.QueryClassStats(
+                    hits, misses, total == 0 ? 0.0 : (double) hits / total));
+        });
+
+        int currentSize;
+        synchronized (entries) {
+            currentSize = entries.size();
+        }
+        return new SearchCacheStatsDTO(generation.get(), currentSize, maxEntries, classes);
+    }
+
+    static String normalize(String search) {
+        if (search == null) {
+            return "";
+        }
+        return search.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    private static Page<JobResponse> join(CompletableFuture<Page<JobResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CacheKey(long generation, String search, String skills, int page, int size) {
+    }
+
+    private static final class Entry {
+        private final CompletableFuture<Page<JobResponse>> future = new CompletableFuture<>();
+        private final long loadedAt = System.currentTimeMillis();
+
+        private boolean isExpired(long ttlMillis) {
+            return ttlMillis > 0 && future.isDone() && System.currentTimeMillis() - loadedAt > ttlMillis;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
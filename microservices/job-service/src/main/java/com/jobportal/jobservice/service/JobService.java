@@ -1,19 +1,37 @@
 package com.jobportal.jobservice.service;
 
 import com.jobportal.jobservice.dto.CreateJobRequest;
+import com.jobportal.jobservice.dto.JobCursorPage;
 import com.jobportal.jobservice.dto.JobCountDTO;
 import com.jobportal.jobservice.dto.JobResponse;
+import com.jobportal.jobservice.dto.SearchAnalyticsDTO;
+import com.jobportal.jobservice.dto.SearchCacheStatsDTO;
+import com.jobportal.jobservice.dto.SkillFacetDTO;
 import com.jobportal.jobservice.model.Job;
 import com.jobportal.jobservice.repository.JobRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,6 +40,15 @@ import java.util.stream.Collectors;
 public class JobService {
 
     private final JobRepository jobRepository;
+    private final JobSearchCache searchCache;
+    private final SkillExtractor skillExtractor;
+    private final SearchAnalytics searchAnalytics;
+    private final JobCatalogSnapshot catalogSnapshot;
+    private final MongoTemplate mongoTemplate;
+
+    // Up to this many excluded ids are pushed down as $nin; larger sets are filtered in memory
+    @Value("${job.available.nin-threshold:256}")
+    private int ninThreshold;
 
     public JobResponse createJob(String userId, CreateJobRequest request) {
         Job job = new Job(
@@ -35,30 +62,195 @@ public class JobService {
                 "ACTIVE",
                 userId
         );
+        job.setSkills(skillExtractor.extract(request.getTitle(), request.getDescription()));
         Job savedJob = jobRepository.save(job);
+        searchCache.invalidate();
+        catalogSnapshot.markStale();
         log.info("Job created: {} by user: {}", savedJob.getId(), userId);
         return mapToResponse(savedJob);
     }
 
     public JobResponse getJob(String jobId) {
+        Optional<JobResponse> snapshot = catalogSnapshot.findJob(jobId);
+        if (snapshot.isPresent()) {
+            return snapshot.get();
+        }
+
+        return getCurrentJob(jobId);
+    }
+
+    // Internal callers such as apply must never see a job closed or deleted since the snapshot
+    public JobResponse getCurrentJob(String jobId) {
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new IllegalArgumentException("Job not found"));
         return mapToResponse(job);
     }
 
-    public Page<JobResponse> searchJobs(String search, int page, int size) {
+    public List<JobResponse> getJobs(List<String> jobIds) {
+        List<JobResponse> jobs = new ArrayList<>();
+        jobRepository.findAllById(jobIds).forEach(job -> jobs.add(mapToResponse(job)));
+        return jobs;
+    }
+
+    public JobCursorPage getAvailableJobs(List<String> excludeIds, String cursor, int size) {
+        Set<String> excluded = excludeIds != null ? new HashSet<>(excludeIds) : Set.of();
+        Sort order = Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "_id"));
+        Job position = decodeCursor(cursor);
+
+        List<Job> page = new ArrayList<>(size + 1);
+        if (excluded.size() <= ninThreshold) {
+            Criteria criteria = availableCriteria(position);
+            if (!excluded.isEmpty()) {
+                criteria = criteria.and("_id").nin(excluded);
+            }
+            page.addAll(mongoTemplate.find(new Query(criteria).with(order).limit(size + 1), Job.class));
+        } else {
+            // Walk the status/createdAt index in keyset order and drop applied jobs with
+            // hash lookups, so a long application history never becomes a huge $nin
+            int batchSize = Math.max(size * 2, 50);
+            while (page.size() <= size) {
+                List<Job> batch = mongoTemplate.find(
+                        new Query(availableCriteria(position)).with(order).limit(batchSize), Job.class);
+                for (Job job : batch) {
+                    if (!excluded.contains(job.getId()) && page.size() <= size) {
+                        page.add(job);
+                    }
+                }
+                if (batch.size() < batchSize) {
+                    break;
+                }
+                position = batch.get(batch.size() - 1);
+            }
+        }
+
+        boolean hasMore = page.size() > size;
+        List<Job> content = hasMore ? page.subList(0, size) : page;
+        String nextCursor = hasMore ? encodeCursor(content.get(content.size() - 1)) : null;
+        return new JobCursorPage(content.stream().map(this::mapToResponse).collect(Collectors.toList()),
+                nextCursor, hasMore);
+    }
+
+    private static Criteria availableCriteria(Job after) {
+        Criteria criteria = Criteria.where("status").is("ACTIVE");
+        if (after != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(after.getCreatedAt()),
+                    Criteria.where("createdAt").is(after.getCreatedAt()).and("_id").lt(after.getId()));
+        }
+        return criteria;
+    }
+
+    static String encodeCursor(Job last) {
+        String raw = last.getCreatedAt() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Job decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            Job position = new Job();
+            position.setCreatedAt(LocalDateTime.parse(raw.substring(0, separator)));
+            position.setId(raw.substring(separator + 1));
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public Optional<LocalDateTime> getJobLastModified(String jobId) {
+        Optional<JobResponse> snapshot = catalogSnapshot.findJob(jobId);
+        if (snapshot.isPresent() && snapshot.get().getUpdatedAt() != null) {
+            return Optional.of(LocalDateTime.parse(snapshot.get().getUpdatedAt()));
+        }
+
+        return jobRepository.findUpdatedAtById(jobId)
+                .map(Job::getUpdatedAt);
+    }
+
+    public Page<JobResponse> searchJobs(String search, List<String> skills, int page, int size) {
+        long start = System.nanoTime();
+        String normalized = JobSearchCache.normalize(search);
+        List<String> normalizedSkills = SkillExtractor.normalizeAll(skills);
+        Page<JobResponse> result = null;
+        if (normalized.isEmpty() && normalizedSkills.isEmpty()) {
+            result = catalogSnapshot.findBrowsePage(page, size).orElse(null);
+        }
+        if (result == null) {
+            result = searchCache.get(normalized, normalizedSkills, page, size,
+                    () -> loadSearchPage(normalized, normalizedSkills, page, size));
+        }
+
+        // Snapshot-served browse pages count too, or the most common query drops out of the totals
+        if (normalizedSkills.isEmpty()) {
+            searchAnalytics.record(normalized, result.getTotalElements(), (System.nanoTime() - start) / 1_000_000);
+        }
+        return result;
+    }
+
+    // Populates the search cache without counting towards search analytics
+    void warmSearch(String search, int page, int size) {
+        String normalized = JobSearchCache.normalize(search);
+        searchCache.get(normalized, List.of(), page, size, () -> loadSearchPage(normalized, List.of(), page, size));
+    }
+
+    public SearchAnalyticsDTO getSearchAnalytics() {
+        return searchAnalytics.snapshot();
+    }
+
+    public List<SkillFacetDTO> getSkillFacets(String search, List<String> skills, int limit) {
+        Criteria criteria = searchCriteria(JobSearchCache.normalize(search), SkillExtractor.normalizeAll(skills));
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.unwind("skills"),
+                Aggregation.group("skills").count().as("count"),
+                Aggregation.sort(Sort.by(Sort.Direction.DESC, "count").and(Sort.by("_id"))),
+                Aggregation.limit(limit),
+                Aggregation.project("count").and("skill").previousOperation()
+        );
+        return mongoTemplate.aggregate(aggregation, Job.class, SkillFacetDTO.class).getMappedResults();
+    }
+
+    public SearchCacheStatsDTO getSearchCacheStats() {
+        return searchCache.getStats();
+    }
+
+    private Page<JobResponse> loadSearchPage(String search, List<String> skills, int page, int size) {
         Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        
+
         Page<Job> jobs;
-        if (search == null || search.isEmpty()) {
+        if (!skills.isEmpty()) {
+            Query query = new Query(searchCriteria(search, skills)).with(pageable);
+            List<Job> content = mongoTemplate.find(query, Job.class);
+            jobs = PageableExecutionUtils.getPage(content, pageable,
+                    () -> mongoTemplate.count(Query.of(query).limit(-1).skip(-1), Job.class));
+        } else if (search.isEmpty()) {
             jobs = jobRepository.findByStatus("ACTIVE", pageable);
         } else {
             jobs = jobRepository.searchByMultipleFieldsAndStatus(search, "ACTIVE", pageable);
         }
-        
+
         return jobs.map(this::mapToResponse);
     }
 
+    private Criteria searchCriteria(String search, List<String> skills) {
+        Criteria criteria = Criteria.where("status").is("ACTIVE");
+        if (!skills.isEmpty()) {
+            criteria = criteria.and("skills").all(skills);
+        }
+        if (!search.isEmpty()) {
+            criteria = criteria.orOperator(
+                    Criteria.where("title").regex(search, "i"),
+                    Criteria.where("description").regex(search, "i"),
+                    Criteria.where("location").regex(search, "i")
+            );
+        }
+        return criteria;
+    }
+
     public List<JobResponse> getJobsByRecruiter(String recruiterId) {
         return jobRepository.findByCreatedBy(recruiterId)
                 .stream()
@@ -84,9 +276,12 @@ public class JobService {
         if (request.getStatus() != null) {
             job.setStatus(request.getStatus());
         }
+        job.setSkills(skillExtractor.extract(request.getTitle(), request.getDescription()));
         job.setUpdatedAt(LocalDateTime.now());
 
         Job updatedJob = jobRepository.save(job);
+        searchCache.invalidate();
+        catalogSnapshot.markStale();
         log.info("Job updated: {} by user: {}", jobId, userId);
         return mapToResponse(updatedJob);
     }
@@ -100,15 +295,42 @@ public class JobService {
         }
 
         jobRepository.deleteById(jobId);
+        searchCache.invalidate();
+        catalogSnapshot.markStale();
         log.info("Job deleted: {} by user: {}", jobId, userId);
     }
 
     public void deleteJobsByUserId(String userId) {
         List<Job> jobs = jobRepository.findByCreatedBy(userId);
         jobRepository.deleteAll(jobs);
+        searchCache.invalidate();
+        catalogSnapshot.markStale();
         log.info("Deleted {} jobs for user: {}", jobs.size(), userId);
     }
 
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillSkills() {
+        int updated = 0;
+        try {
+            Page<Job> batch;
+            do {
+                batch = jobRepository.findWithoutSkills(PageRequest.of(0, 200));
+                for (Job job : batch.getContent()) {
+                    job.setSkills(skillExtractor.extract(job.getTitle(), job.getDescription()));
+                }
+                jobRepository.saveAll(batch.getContent());
+                updated += batch.getNumberOfElements();
+            } while (batch.hasNext());
+        } catch (Exception e) {
+            log.error("Error backfilling job skills: {}", e.getMessage());
+        }
+        if (updated > 0) {
+            searchCache.invalidate();
+            catalogSnapshot.markStale();
+            log.info("Backfilled skills for {} jobs", updated);
+        }
+    }
+
     public JobCountDTO getStats() {
         long totalJobs = jobRepository.count();
         long activeJobs = jobRepository.countByStatus("ACTIVE");
@@ -133,6 +355,7 @@ public class JobService {
         response.setLocation(job.getLocation());
         response.setJobType(job.getJobType());
         response.setStatus(job.getStatus());
+        response.setSkills(job.getSkills());
         response.setCreatedBy(job.getCreatedBy());
         response.setCreatedAt(job.getCreatedAt() != null ? job.getCreatedAt().toString() : null);
         response.setUpdatedAt(job.getUpdatedAt() != null ? job.getUpdatedAt().toString() : null);
@@ -0,0 +1,235 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.dto.SearchAnalyticsDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded-memory search analytics over a sliding window.
+ * The window is a ring of time buckets; each bucket holds Count-Min Sketches
+ * for all and zero-result queries, a capped set of heavy-hitter candidates and
+ * a min-heap of its slowest queries. Reads merge the live buckets.
+ * Recording takes no global lock: sketch cells and counters are atomic, and the
+ * candidate sets and slow-query heaps are only locked when an entry could actually
+ * displace one, which a per-set floor rules out for most queries.
+ */
+@Component
+public class SearchAnalytics {
+
+    private final Bucket[] buckets;
+    private final long bucketMillis;
+    private final int topK;
+    private final int sketchDepth;
+    private final int sketchWidth;
+
+    public SearchAnalytics(
+            @Value("${job.search-analytics.window-minutes:60}") int windowMinutes,
+            @Value("${job.search-analytics.bucket-minutes:5}") int bucketMinutes,
+            @Value("${job.search-analytics.top-k:20}") int topK,
+            @Value("${job.search-analytics.sketch-depth:4}") int sketchDepth,
+            @Value("${job.search-analytics.sketch-width:2048}") int sketchWidth) {
+        this.bucketMillis = bucketMinutes * 60_000L;
+        this.topK = topK;
+        this.sketchDepth = sketchDepth;
+        this.sketchWidth = sketchWidth;
+        this.buckets = new Bucket[Math.max(1, windowMinutes / bucketMinutes)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public void record(String query, long totalResults, long latencyMillis) {
+        long now = System.currentTimeMillis();
+        Bucket bucket = currentBucket(now);
+        bucket.totalSearches.increment();
+
+        if (query == null || query.isEmpty()) {
+            return;
+        }
+
+        bucket.queryCandidates.offer(query, bucket.queries.add(query, 1));
+
+        if (totalResults == 0) {
+            bucket.zeroResultCandidates.offer(query, bucket.zeroResults.add(query, 1));
+        }
+
+        if (latencyMillis > bucket.slowFloor) {
+            synchronized (bucket.slowest) {
+                if (bucket.slowest.size() < topK) {
+                    bucket.slowest.add(new SlowSample(query, latencyMillis, now));
+                } else if (bucket.slowest.peek().latencyMillis < latencyMillis) {
+                    bucket.slowest.poll();
+                    bucket.slowest.add(new SlowSample(query, latencyMillis, now));
+                }
+                bucket.slowFloor = bucket.slowest.size() < topK ? -1 : bucket.slowest.peek().latencyMillis;
+            }
+        }
+    }
+
+    public SearchAnalyticsDTO snapshot() {
+        long now = System.currentTimeMillis();
+        CountMinSketch queries = new CountMinSketch(sketchDepth, sketchWidth);
+        CountMinSketch zeroResults = new CountMinSketch(sketchDepth, sketchWidth);
+        Set<String> queryCandidates = new HashSet<>();
+        Set<String> zeroResultCandidates = new HashSet<>();
+        Map<String, SlowSample> slowest = new HashMap<>();
+        long totalSearches = 0;
+
+        for (Bucket bucket : buckets) {
+            if (!isLive(bucket, now)) {
+                continue;
+            }
+            totalSearches += bucket.totalSearches.sum();
+            queries.merge(bucket.queries);
+            zeroResults.merge(bucket.zeroResults);
+            queryCandidates.addAll(bucket.queryCandidates.entries.keySet());
+            zeroResultCandidates.addAll(bucket.zeroResultCandidates.entries.keySet());
+            List<SlowSample> samples;
+            synchronized (bucket.slowest) {
+                samples = new ArrayList<>(bucket.slowest);
+            }
+            for (SlowSample sample : samples) {
+                slowest.merge(sample.query, sample, (a, b) -> a.latencyMillis >= b.latencyMillis ? a : b);
+            }
+        }
+
+        List<SearchAnalyticsDTO.SlowQuery> slowQueries = slowest.values().stream()
+                .sorted(Comparator.comparingLong((SlowSample s) -> s.latencyMillis).reversed())
+                .limit(topK)
+                .map(s -> new SearchAnalyticsDTO.SlowQuery(
+                        s.query, s.latencyMillis, Instant.ofEpochMilli(s.observedAt).toString()))
+                .toList();
+
+        return new SearchAnalyticsDTO(
+                bucketMillis * buckets.length / 60_000L,
+                totalSearches,
+                topK(queryCandidates, queries),
+                topK(zeroResultCandidates, zeroResults),
+                slowQueries);
+    }
+
+    public List<String> topQueries(int limit) {
+        return snapshot().getTopQueries().stream()
+                .limit(limit)
+                .map(SearchAnalyticsDTO.QueryCount::getQuery)
+                .toList();
+    }
+
+    private List<SearchAnalyticsDTO.QueryCount> topK(Set<String> candidates, CountMinSketch sketch) {
+        PriorityQueue<SearchAnalyticsDTO.QueryCount> heap =
+                new PriorityQueue<>(Comparator.comparingLong(SearchAnalyticsDTO.QueryCount::getCount));
+        for (String candidate : candidates) {
+            heap.add(new SearchAnalyticsDTO.QueryCount(candidate, sketch.estimate(candidate)));
+            if (heap.size() > topK) {
+                heap.poll();
+            }
+        }
+        List<SearchAnalyticsDTO.QueryCount> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingLong(SearchAnalyticsDTO.QueryCount::getCount).reversed());
+        return result;
+    }
+
+    // Rotation is the only step that needs the bucket lock, once per bucket period
+    private Bucket currentBucket(long now) {
+        long epoch = now / bucketMillis;
+        Bucket bucket = buckets[(int) (epoch % buckets.length)];
+        if (bucket.epoch < epoch) {
+            synchronized (bucket) {
+                if (bucket.epoch < epoch) {
+                    bucket.reset(epoch);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    private boolean isLive(Bucket bucket, long now) {
+        long epoch = now / bucketMillis;
+        return bucket.epoch > epoch - buckets.length && bucket.epoch <= epoch;
+    }
+
+    private record SlowSample(String query, long latencyMillis, long observedAt) {
+    }
+
+    /**
+     * Capped set of heavy-hitter candidates; when full, the entry with the lowest estimate
+     * makes room. Estimates only grow, so an offer at or below the lowest estimate seen at
+     * the last eviction scan cannot displace anything and returns without locking.
+     */
+    private final class Candidates {
+        private final Map<String, Long> entries = new ConcurrentHashMap<>();
+        private volatile long floor;
+
+        private void offer(String query, long estimate) {
+            if (entries.replace(query, estimate) != null) {
+                return;
+            }
+            if (entries.size() < topK * 4) {
+                entries.put(query, estimate);
+                return;
+            }
+            if (estimate <= floor) {
+                return;
+            }
+            synchronized (this) {
+                String weakest = null;
+                long weakestCount = Long.MAX_VALUE;
+                for (Map.Entry<String, Long> entry : entries.entrySet()) {
+                    if (entry.getValue() < weakestCount) {
+                        weakest = entry.getKey();
+                        weakestCount = entry.getValue();
+                    }
+                }
+                if (weakest != null && estimate > weakestCount) {
+                    entries.remove(weakest);
+                    entries.put(query, estimate);
+                }
+                floor = weakestCount;
+            }
+        }
+
+        private void clear() {
+            entries.clear();
+            floor = 0;
+        }
+    }
+
+    private final class Bucket {
+        private volatile long epoch = -1;
+        private final LongAdder totalSearches = new LongAdder();
+        private final CountMinSketch queries = new CountMinSketch(sketchDepth, sketchWidth);
+        private final CountMinSketch zeroResults = new CountMinSketch(sketchDepth, sketchWidth);
+        private final Candidates queryCandidates = new Candidates();
+        private final Candidates zeroResultCandidates = new Candidates();
+        // Guarded by itself; slowFloor is the latency a sample must beat once it is full
+        private final PriorityQueue<SlowSample> slowest =
+                new PriorityQueue<>(Comparator.comparingLong(SlowSample::latencyMillis));
+        private volatile long slowFloor = -1;
+
+        // Records racing with a rotation may land in the new period; the counts are approximate anyway
+        private void reset(long newEpoch) {
+            totalSearches.reset();
+            queries.clear();
+            zeroResults.clear();
+            queryCandidates.clear();
+            zeroResultCandidates.clear();
+            synchronized (slowest) {
+                slowest.clear();
+                slowFloor = -1;
+            }
+            epoch = newEpoch;
+        }
+    }
+}
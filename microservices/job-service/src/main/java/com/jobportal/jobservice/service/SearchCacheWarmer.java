@@ -0,0 +1,80 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.model.SearchWarmup;
+import com.jobportal.jobservice.repository.SearchWarmupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SearchCacheWarmer {
+
+    private static final int WARMUP_PAGE_SIZE = 10;
+
+    private final JobService jobService;
+    private final SearchAnalytics searchAnalytics;
+    private final SearchWarmupRepository searchWarmupRepository;
+
+    @Value("${job.search-analytics.warmup-queries:10}")
+    private int warmupQueries;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        Set<String> queries = new LinkedHashSet<>();
+        queries.add("");
+        try {
+            searchWarmupRepository.findById(SearchWarmup.TOP_QUERIES_ID)
+                    .ifPresent(warmup -> queries.addAll(warmup.getQueries()));
+        } catch (Exception e) {
+            log.error("Error loading search warmup queries: {}", e.getMessage());
+        }
+
+        int warmed = 0;
+        for (String query : queries) {
+            if (warmed >= warmupQueries + 1) {
+                break;
+            }
+            try {
+                jobService.warmSearch(query, 0, WARMUP_PAGE_SIZE);
+                warmed++;
+            } catch (Exception e) {
+                log.warn("Could not warm search cache for query '{}': {}", query, e.getMessage());
+            }
+        }
+        log.info("Search cache warmed with {} queries", warmed);
+    }
+
+    @Scheduled(fixedDelayString = "${job.search-analytics.persist-interval-ms:300000}",
+            initialDelayString = "${job.search-analytics.persist-interval-ms:300000}")
+    public void persistTopQueries() {
+        List<String> top = searchAnalytics.topQueries(warmupQueries);
+        if (top.isEmpty()) {
+            return;
+        }
+        try {
+            searchWarmupRepository.save(new SearchWarmup(
+                    SearchWarmup.TOP_QUERIES_ID, new ArrayList<>(top), LocalDateTime.now()));
+            log.debug("Persisted {} top search queries for warmup", top.size());
+        } catch (Exception e) {
+            log.error("Error persisting search warmup queries: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void persistOnShutdown() {
+        persistTopQueries();
+    }
+}
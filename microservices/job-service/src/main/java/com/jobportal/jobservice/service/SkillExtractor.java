@@ -0,0 +1,145 @@
+package com.jobportal.jobservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Extracts normalized skill tags from free text.
+ * The configured dictionary is compiled once into an Aho-Corasick automaton,
+ * so each text is scanned in a single pass regardless of dictionary size.
+ */
+@Slf4j
+@Component
+public class SkillExtractor {
+
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+    private final List<List<String>> outputs = new ArrayList<>();
+    private int[] failure;
+
+    public SkillExtractor(@Value("${job.skills.dictionary:}") List<String> dictionary) {
+        Set<String> skills = new LinkedHashSet<>();
+        for (String skill : dictionary) {
+            String normalized = normalize(skill);
+            if (!normalized.isEmpty()) {
+                skills.add(normalized);
+            }
+        }
+
+        newNode();
+        for (String skill : skills) {
+            insert(skill);
+        }
+        buildFailureLinks();
+        log.info("Skill dictionary compiled: {} skills, {} automaton states", skills.size(), transitions.size());
+    }
+
+    public List<String> extract(String... texts) {
+        Set<String> found = new TreeSet<>();
+        for (String text : texts) {
+            if (text != null && !text.isEmpty()) {
+                scan(text.toLowerCase(), found);
+            }
+        }
+        return new ArrayList<>(found);
+    }
+
+    public static String normalize(String skill) {
+        return skill == null ? "" : skill.trim().replaceAll("\\s+", " ").toLowerCase();
+    }
+
+    public static List<String> normalizeAll(Collection<String> skills) {
+        if (skills == null) {
+            return List.of();
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String skill : skills) {
+            String value = normalize(skill);
+            if (!value.isEmpty()) {
+                normalized.add(value);
+            }
+        }
+        return new ArrayList<>(normalized);
+    }
+
+    private void scan(String text, Set<String> found) {
+        // Longest whole-term match per start position, so "c" is not also reported inside "c++"
+        Map<Integer, String> longest = new HashMap<>();
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            while (state != 0 && !transitions.get(state).containsKey(c)) {
+                state = failure[state];
+            }
+            state = transitions.get(state).getOrDefault(c, 0);
+
+            for (String skill : outputs.get(state)) {
+                int start = i - skill.length() + 1;
+                if (isBoundary(text, start - 1, skill.charAt(0))
+                        && isBoundary(text, i + 1, skill.charAt(skill.length() - 1))) {
+                    longest.merge(start, skill, (a, b) -> a.length() >= b.length() ? a : b);
+                }
+            }
+        }
+        found.addAll(longest.values());
+    }
+
+    // Only accept whole-word matches, so "java" is not found inside "javascript". A term that
+    // starts or ends with a symbol (".net", "c++") brings its own boundary on that side.
+    private static boolean isBoundary(String text, int index, char termEdge) {
+        return !Character.isLetterOrDigit(termEdge)
+                || index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+    }
+
+    private int newNode() {
+        transitions.add(new HashMap<>());
+        outputs.add(new ArrayList<>());
+        return transitions.size() - 1;
+    }
+
+    private void insert(String skill) {
+        int state = 0;
+        for (int i = 0; i < skill.length(); i++) {
+            char c = skill.charAt(i);
+            Integer next = transitions.get(state).get(c);
+            if (next == null) {
+                next = newNode();
+                transitions.get(state).put(c, next);
+            }
+            state = next;
+        }
+        outputs.get(state).add(skill);
+    }
+
+    private void buildFailureLinks() {
+        failure = new int[transitions.size()];
+        Queue<Integer> queue = new ArrayDeque<>(transitions.get(0).values());
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                char c = edge.getKey();
+                int child = edge.getValue();
+
+                int fallback = failure[state];
+                while (fallback != 0 && !transitions.get(fallback).containsKey(c)) {
+                    fallback = failure[fallback];
+                }
+                failure[child] = transitions.get(fallback).getOrDefault(c, 0);
+                outputs.get(child).addAll(outputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+    }
+}
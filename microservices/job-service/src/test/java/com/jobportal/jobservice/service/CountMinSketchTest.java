@@ -0,0 +1,63 @@
+package com.jobportal.jobservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CountMinSketchTest {
+
+    @Test
+    void unseenKeyEstimatesZero() {
+        assertEquals(0, new CountMinSketch(4, 64).estimate("java"));
+    }
+
+    @Test
+    void addReturnsTheEstimateAfterTheAdd() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        sketch.add("java", 2);
+        long afterAdd = sketch.add("java", 3);
+        assertEquals(sketch.estimate("java"), afterAdd);
+        assertEquals(5, afterAdd);
+    }
+
+    @Test
+    void estimatesNeverUndercountWhenKeysCollide() {
+        // Far more keys than columns, so every cell is shared
+        CountMinSketch sketch = new CountMinSketch(2, 8);
+        Map<String, Long> actual = new HashMap<>();
+        for (int i = 0; i < 500; i++) {
+            String key = "query-" + (i % 97);
+            sketch.add(key, 1 + i % 3);
+            actual.merge(key, 1L + i % 3, Long::sum);
+        }
+        actual.forEach((key, count) -> assertTrue(sketch.estimate(key) >= count,
+                () -> key + " estimated " + sketch.estimate(key) + " < " + count));
+    }
+
+    @Test
+    void mergeAddsCountsOfTheSameShape() {
+        CountMinSketch first = new CountMinSketch(4, 64);
+        CountMinSketch second = new CountMinSketch(4, 64);
+        first.add("java", 3);
+        second.add("java", 4);
+        second.add("spring", 1);
+
+        first.merge(second);
+
+        assertEquals(7, first.estimate("java"));
+        assertTrue(first.estimate("spring") >= 1);
+        assertEquals(4, second.estimate("java"));
+    }
+
+    @Test
+    void clearResetsEveryCell() {
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        sketch.add("java", 10);
+        sketch.clear();
+        assertEquals(0, sketch.estimate("java"));
+    }
+}
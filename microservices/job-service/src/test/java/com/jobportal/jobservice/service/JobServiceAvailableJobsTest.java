@@ -0,0 +1,112 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.dto.JobCursorPage;
+import com.jobportal.jobservice.dto.JobResponse;
+import com.jobportal.jobservice.model.Job;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobServiceAvailableJobsTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789);
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final JobService jobService = new JobService(null, null, null, null, null, mongoTemplate);
+
+    @Test
+    void cursorRoundTripsCreatedAtAndId() {
+        Job decoded = JobService.decodeCursor(JobService.encodeCursor(job("65f1c0ffee", CREATED)));
+        assertEquals(CREATED, decoded.getCreatedAt());
+        assertEquals("65f1c0ffee", decoded.getId());
+    }
+
+    @Test
+    void blankCursorStartsFromTheTop() {
+        assertNull(JobService.decodeCursor(null));
+        assertNull(JobService.decodeCursor(" "));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> JobService.decodeCursor("not base64!"));
+        assertThrows(IllegalArgumentException.class, () -> JobService.decodeCursor(encode("no separator")));
+        assertThrows(IllegalArgumentException.class, () -> JobService.decodeCursor(encode("yesterday|65f1c0ffee")));
+    }
+
+    @Test
+    void exclusionsAtTheThresholdArePushedDownAsNin() {
+        ReflectionTestUtils.setField(jobService, "ninThreshold", 2);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenReturn(List.of(job("c", CREATED)));
+
+        jobService.getAvailableJobs(List.of("a", "b"), null, 10);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(Job.class));
+        Document idFilter = (Document) query.getValue().getQueryObject().get("_id");
+        assertTrue(idFilter.containsKey("$nin"));
+        assertEquals(11, query.getValue().getLimit());
+    }
+
+    @Test
+    void exclusionsAboveTheThresholdAreFilteredInMemory() {
+        ReflectionTestUtils.setField(jobService, "ninThreshold", 2);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenReturn(List.of(
+                job("a", CREATED.minusMinutes(1)),
+                job("d", CREATED.minusMinutes(2)),
+                job("b", CREATED.minusMinutes(3)),
+                job("e", CREATED.minusMinutes(4)),
+                job("c", CREATED.minusMinutes(5))));
+
+        JobCursorPage page = jobService.getAvailableJobs(List.of("a", "b", "c"), null, 1);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(1)).find(query.capture(), eq(Job.class));
+        assertFalse(query.getValue().getQueryObject().containsKey("_id"));
+        assertEquals(List.of("d"), page.getContent().stream().map(JobResponse::getId).toList());
+        assertTrue(page.isHasMore());
+        assertEquals("d", JobService.decodeCursor(page.getNextCursor()).getId());
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        ReflectionTestUtils.setField(jobService, "ninThreshold", 2);
+        when(mongoTemplate.find(any(Query.class), eq(Job.class))).thenReturn(List.of(job("d", CREATED)));
+
+        JobCursorPage page = jobService.getAvailableJobs(List.of("a", "b", "c"), null, 1);
+
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    private static Job job(String id, LocalDateTime createdAt) {
+        Job job = new Job();
+        job.setId(id);
+        job.setCreatedAt(createdAt);
+        return job;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
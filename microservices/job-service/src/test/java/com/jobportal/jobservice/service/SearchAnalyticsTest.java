@@ -0,0 +1,79 @@
+package com.jobportal.jobservice.service;
+
+import com.jobportal.jobservice.dto.SearchAnalyticsDTO;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SearchAnalyticsTest {
+
+    @Test
+    void emptyQueriesCountTowardsTotalsOnly() {
+        SearchAnalytics analytics = new SearchAnalytics(60, 5, 5, 4, 2048);
+        analytics.record("", 10, 3);
+        analytics.record(null, 10, 3);
+        analytics.record("java", 10, 3);
+
+        SearchAnalyticsDTO snapshot = analytics.snapshot();
+        assertEquals(3, snapshot.getTotalSearches());
+        assertEquals(List.of("java"), analytics.topQueries(5));
+    }
+
+    @Test
+    void heavyQueryEvictsWeakerCandidatesWhenFull() {
+        // topK 1 keeps four candidates, all filled by one-off queries before the heavy one arrives
+        SearchAnalytics analytics = new SearchAnalytics(60, 5, 1, 4, 2048);
+        for (String query : List.of("rust", "scala", "elixir", "haskell")) {
+            analytics.record(query, 1, 1);
+        }
+        for (int i = 0; i < 5; i++) {
+            analytics.record("java", 1, 1);
+        }
+
+        List<SearchAnalyticsDTO.QueryCount> top = analytics.snapshot().getTopQueries();
+        assertEquals(1, top.size());
+        assertEquals("java", top.get(0).getQuery());
+        assertTrue(top.get(0).getCount() >= 5);
+    }
+
+    @Test
+    void oneOffQueryDoesNotDisplaceRepeatedCandidates() {
+        SearchAnalytics analytics = new SearchAnalytics(60, 5, 1, 4, 2048);
+        for (String query : List.of("rust", "scala", "elixir", "haskell")) {
+            analytics.record(query, 1, 1);
+            analytics.record(query, 1, 1);
+            analytics.record(query, 1, 1);
+        }
+        analytics.record("cobol", 1, 1);
+
+        assertFalse(analytics.topQueries(5).contains("cobol"));
+        assertTrue(List.of("rust", "scala", "elixir", "haskell").contains(analytics.topQueries(1).get(0)));
+    }
+
+    @Test
+    void zeroResultQueriesAreTrackedSeparately() {
+        SearchAnalytics analytics = new SearchAnalytics(60, 5, 5, 4, 2048);
+        analytics.record("java", 12, 1);
+        analytics.record("fortran", 0, 1);
+
+        SearchAnalyticsDTO snapshot = analytics.snapshot();
+        assertEquals(1, snapshot.getZeroResultQueries().size());
+        assertEquals("fortran", snapshot.getZeroResultQueries().get(0).getQuery());
+    }
+
+    @Test
+    void slowestQueriesAreCappedAtTopKAndSortedByLatency() {
+        SearchAnalytics analytics = new SearchAnalytics(60, 5, 2, 4, 2048);
+        analytics.record("fast", 1, 5);
+        analytics.record("slow", 1, 500);
+        analytics.record("medium", 1, 50);
+        analytics.record("slowest", 1, 900);
+
+        List<SearchAnalyticsDTO.SlowQuery> slowest = analytics.snapshot().getSlowestQueries();
+        assertEquals(List.of("slowest", "slow"), slowest.stream().map(SearchAnalyticsDTO.SlowQuery::getQuery).toList());
+    }
+}
@@ -0,0 +1,44 @@
+package com.jobportal.jobservice.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SkillExtractorTest {
+
+    private final SkillExtractor extractor = new SkillExtractor(List.of(
+            "Java", "JavaScript", "Golang", "C", "C++", "C#", ".NET", "Spring", "Spring Boot",
+            "Express.js", "REST API", "GitHub", "Scrum"));
+
+    @Test
+    void symbolTermsDoNotAlsoTagTheirPrefix() {
+        assertEquals(List.of("c#", "c++"), extractor.extract("Senior C++ and C# developer"));
+    }
+
+    @Test
+    void symbolPrefixedTermMatchesInsideCompoundName() {
+        assertEquals(List.of(".net"), extractor.extract("ASP.NET Core services"));
+    }
+
+    @Test
+    void plainTermStillMatchesBetweenPunctuation() {
+        assertEquals(List.of("c", "java"), extractor.extract("C, Java."));
+    }
+
+    @Test
+    void longerTermWinsAtTheSameStart() {
+        assertEquals(List.of("spring boot"), extractor.extract("Spring Boot microservices"));
+    }
+
+    @Test
+    void termsOnlyMatchWholeWords() {
+        assertEquals(List.of("javascript"), extractor.extract("JavaScript frontends"));
+    }
+
+    @Test
+    void commonEnglishWordsAreNotTagged() {
+        assertEquals(List.of(), extractor.extract("Go express your ideas, git gud, rest well, stay agile"));
+    }
+}
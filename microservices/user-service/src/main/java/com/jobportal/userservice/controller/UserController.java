@@ -5,15 +5,20 @@ import com.jobportal.userservice.dto.AdminStatsResponse;
 import com.jobportal.userservice.dto.MonthlyStatsDTO;
 import com.jobportal.userservice.dto.UpdateProfileRequest;
 import com.jobportal.userservice.dto.UpdateRoleRequest;
+import com.jobportal.userservice.dto.UserPage;
 import com.jobportal.userservice.dto.UserResponse;
 import com.jobportal.userservice.service.AdminService;
 import com.jobportal.userservice.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Slf4j
@@ -25,6 +30,8 @@ public class UserController {
     private final UserService userService;
     private final AdminService adminService;
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @PatchMapping("/users")
     public ResponseEntity<ApiResponse<UserResponse>> updateProfile(
             @RequestHeader("X-USER-ID") String userId,
@@ -43,15 +50,47 @@ public class UserController {
     }
 
     @GetMapping("/users")
-    public ResponseEntity<ApiResponse<List<UserResponse>>> getAllUsers(
-            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole) {
+    public ResponseEntity<ApiResponse<UserPage>> getAllUsers(
+            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "25") int size) {
+        if (!"ADMIN".equals(userRole)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body(new ApiResponse<>(false, null, "Only admins can access this resource"));
+        }
+
+        try {
+            UserPage users = userService.listUsers(role, q, page != null ? Math.max(page, 0) : null, cursor,
+                    Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+            return ResponseEntity.ok(new ApiResponse<>(true, users, "Users retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ApiResponse<>(false, null, e.getMessage()));
+        } catch (Exception e) {
+            log.error("List users error", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ApiResponse<>(false, null, "Failed to retrieve users"));
+        }
+    }
+
+    @GetMapping("/users/export")
+    public ResponseEntity<?> exportUsers(
+            @RequestHeader(value = "X-USER-ROLE", required = false) String userRole,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) String q) {
         if (!"ADMIN".equals(userRole)) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new ApiResponse<>(false, null, "Only admins can access this resource"));
         }
 
-        List<UserResponse> users = userService.getAllUsers();
-        return ResponseEntity.ok(new ApiResponse<>(true, users, "Users retrieved successfully"));
+        StreamingResponseBody body = out -> userService.exportUsers(role, q, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"")
+                .body(body);
     }
 
     @PatchMapping("/users/{id}/role")
@@ -123,6 +162,11 @@ public class UserController {
         return ResponseEntity.ok(new ApiResponse<>(true, stats, "Monthly stats retrieved"));
     }
 
+    @GetMapping(value = "/internal/resume-paths", produces = MediaType.TEXT_PLAIN_VALUE)
+    public ResponseEntity<StreamingResponseBody> getResumePaths() {
+        return ResponseEntity.ok(userService::writeResumePaths);
+    }
+
     @GetMapping("/internal/users/{id}")
     public ResponseEntity<UserResponse> getUserById(@PathVariable String id) {
         try {
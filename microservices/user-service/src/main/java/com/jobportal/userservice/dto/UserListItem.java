@@ -0,0 +1,20 @@
+package com.jobportal.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the admin user table: only the fields the table and its edit dialog use.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserListItem {
+    private String id;
+    private String username;
+    private String email;
+    private String role;
+    private String location;
+    private String gender;
+}
@@ -0,0 +1,19 @@
+package com.jobportal.userservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPage {
+    private List<UserListItem> content;
+    private int size;
+    // Offset mode only; cursor mode skips the count
+    private Integer page;
+    private Long totalElements;
+    private String nextCursor;
+    private boolean hasMore;
+}
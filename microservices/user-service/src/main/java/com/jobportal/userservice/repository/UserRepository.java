@@ -2,12 +2,17 @@ package com.jobportal.userservice.repository;
 
 import com.jobportal.userservice.model.User;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends MongoRepository<User, String> {
     Optional<User> findByEmail(String email);
     long countByRole(String role);
+
+    @Query(value = "{ 'resume': { $ne: null } }", fields = "{ 'resume': 1 }")
+    Stream<User> streamResumePaths();
 }
@@ -2,90 +2,106 @@ package com.jobportal.userservice.service;
 
 import com.jobportal.userservice.dto.AdminStatsResponse;
 import com.jobportal.userservice.dto.MonthlyStatsDTO;
-import com.jobportal.userservice.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.jobportal.userservice.model.User;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 
+/**
+ * Admin dashboard numbers. The user role counts, the job-service stats and the
+ * application-service counts are fetched concurrently, each under its own deadline, and the
+ * combined result is kept as a snapshot. A fresh snapshot is served as is; a stale one is
+ * served immediately while a single background refresh replaces it, so a dashboard refresh
+ * only waits on the downstream services when there is no usable snapshot at all.
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class AdminService {
 
-    private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
-
-    @Value("${service.urls.job:http://localhost:3003}")
-    private String jobServiceUrl;
+    private static final ParameterizedTypeReference<Map<String, Number>> COUNTS = new ParameterizedTypeReference<>() {
+    };
+    private static final ParameterizedTypeReference<List<MonthlyStatsDTO>> MONTHLY_STATS = new ParameterizedTypeReference<>() {
+    };
 
-    @Value("${service.urls.application:http://localhost:3004}")
-    private String applicationServiceUrl;
+    private final MongoTemplate mongoTemplate;
+    private final RestTemplate restTemplate;
+    private final String jobServiceUrl;
+    private final String applicationServiceUrl;
+    private final long callTimeoutMs;
+    private final long freshMs;
+    private final long maxStaleMs;
+    private final ExecutorService executor;
 
-    public AdminStatsResponse getSystemStats() {
-        AdminStatsResponse stats = new AdminStatsResponse();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Snapshot>> refreshing = new AtomicReference<>();
 
-        // User counts from database
-        long totalUsers = userRepository.count();
-        long totalAdmins = userRepository.countByRole("ADMIN");
-        long totalRecruiters = userRepository.countByRole("RECRUITER");
-        long totalApplicants = userRepository.countByRole("USER");
+    private record Snapshot(AdminStatsResponse stats, long takenAt) {
+    }
 
-        stats.setTotalUsers(totalUsers);
-        stats.setTotalAdmins(totalAdmins);
-        stats.setTotalRecruiters(totalRecruiters);
-        stats.setTotalApplicants(totalApplicants);
+    public AdminService(
+            MongoTemplate mongoTemplate,
+            RestTemplateBuilder restTemplateBuilder,
+            @Value("${service.urls.job:http://localhost:3003}") String jobServiceUrl,
+            @Value("${service.urls.application:http://localhost:3004}") String applicationServiceUrl,
+            @Value("${admin-stats.connect-timeout-ms:500}") long connectTimeoutMs,
+            @Value("${admin-stats.call-timeout-ms:2000}") long callTimeoutMs,
+            @Value("${admin-stats.fresh-ms:30000}") long freshMs,
+            @Value("${admin-stats.max-stale-ms:600000}") long maxStaleMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.restTemplate = restTemplateBuilder
+                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .setReadTimeout(Duration.ofMillis(callTimeoutMs))
+                .build();
+        this.jobServiceUrl = jobServiceUrl;
+        this.applicationServiceUrl = applicationServiceUrl;
+        this.callTimeoutMs = callTimeoutMs;
+        this.freshMs = freshMs;
+        this.maxStaleMs = maxStaleMs;
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "admin-stats-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
 
-        // Job counts from job-service
-        long totalJobs = 0;
-        try {
-            String jobUrl = jobServiceUrl + "/internal/stats";
-            Map jobStats = restTemplate.getForObject(jobUrl, Map.class);
-            if (jobStats != null && jobStats.containsKey("totalJobs")) {
-                totalJobs = ((Number) jobStats.get("totalJobs")).longValue();
-            }
-            log.info("Retrieved job stats from job-service");
-        } catch (Exception e) {
-            log.error("Error fetching job stats: {}", e.getMessage());
+    public AdminStatsResponse getSystemStats() {
+        Snapshot current = snapshot.get();
+        long age = current != null ? System.currentTimeMillis() - current.takenAt() : Long.MAX_VALUE;
+        if (age < freshMs) {
+            return current.stats();
         }
-        stats.setTotalJobs(totalJobs);
-
-        // Application counts from application-service
-        long pendingApplications = 0;
-        long acceptedApplications = 0;
-        long rejectedApplications = 0;
-        try {
-            String appUrl = applicationServiceUrl + "/internal/counts";
-            Map appStats = restTemplate.getForObject(appUrl, Map.class);
-            if (appStats != null) {
-                if (appStats.containsKey("pending")) {
-                    pendingApplications = ((Number) appStats.get("pending")).longValue();
-                }
-                if (appStats.containsKey("accepted")) {
-                    acceptedApplications = ((Number) appStats.get("accepted")).longValue();
-                }
-                if (appStats.containsKey("rejected")) {
-                    rejectedApplications = ((Number) appStats.get("rejected")).longValue();
-                }
-            }
-            log.info("Retrieved application stats from application-service");
-        } catch (Exception e) {
-            log.error("Error fetching application stats: {}", e.getMessage());
+        CompletableFuture<Snapshot> refresh = refresh(current);
+        if (age < maxStaleMs) {
+            return current.stats();
         }
-        stats.setPendingApplications(pendingApplications);
-        stats.setAcceptedApplications(acceptedApplications);
-        stats.setRejectedApplications(rejectedApplications);
-
-        return stats;
+        // No snapshot yet, or too old to show: wait for the refresh every caller is sharing
+        return refresh.join().stats();
     }
 
     public List<MonthlyStatsDTO> getMonthlyStats() {
         try {
-            String url = jobServiceUrl + "/internal/monthly-stats";
-            List<MonthlyStatsDTO> stats = restTemplate.getForObject(url, List.class);
+            String url = jobServiceUrl + "/api/v1/jobs/internal/monthly-stats";
+            List<MonthlyStatsDTO> stats = restTemplate.exchange(url, HttpMethod.GET, null, MONTHLY_STATS).getBody();
             log.info("Retrieved monthly stats from job-service");
             return stats != null ? stats : List.of();
         } catch (Exception e) {
@@ -93,4 +109,112 @@ public class AdminService {
             return List.of();
         }
     }
+
+    // At most one refresh runs at a time; late callers attach to the one in flight
+    private CompletableFuture<Snapshot> refresh(Snapshot previous) {
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> inFlight = refreshing.compareAndExchange(null, created);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        AdminStatsResponse fallback = previous != null ? previous.stats() : new AdminStatsResponse();
+        try {
+            collect(fallback).whenComplete((stats, error) -> {
+                Snapshot next = new Snapshot(stats != null ? stats : fallback, System.currentTimeMillis());
+                snapshot.set(next);
+                refreshing.set(null);
+                created.complete(next);
+            });
+        } catch (RuntimeException e) {
+            refreshing.set(null);
+            created.completeExceptionally(e);
+        }
+        return created;
+    }
+
+    // A source that fails or misses its deadline keeps its numbers from the previous snapshot
+    private CompletableFuture<AdminStatsResponse> collect(AdminStatsResponse previous) {
+        CompletableFuture<AdminStatsResponse> users = fetch(this::countUsersByRole);
+        CompletableFuture<AdminStatsResponse> jobs = fetch(this::fetchJobStats);
+        CompletableFuture<AdminStatsResponse> applications = fetch(this::fetchApplicationCounts);
+
+        return CompletableFuture.allOf(users, jobs, applications).handle((ignored, error) -> {
+            AdminStatsResponse stats = new AdminStatsResponse();
+            AdminStatsResponse u = users.isCompletedExceptionally() ? previous : users.join();
+            stats.setTotalUsers(u.getTotalUsers());
+            stats.setTotalAdmins(u.getTotalAdmins());
+            stats.setTotalRecruiters(u.getTotalRecruiters());
+            stats.setTotalApplicants(u.getTotalApplicants());
+
+            AdminStatsResponse j = jobs.isCompletedExceptionally() ? previous : jobs.join();
+            stats.setTotalJobs(j.getTotalJobs());
+
+            AdminStatsResponse a = applications.isCompletedExceptionally() ? previous : applications.join();
+            stats.setPendingApplications(a.getPendingApplications());
+            stats.setAcceptedApplications(a.getAcceptedApplications());
+            stats.setRejectedApplications(a.getRejectedApplications());
+            return stats;
+        });
+    }
+
+    private CompletableFuture<AdminStatsResponse> fetch(Supplier<AdminStatsResponse> source) {
+        return CompletableFuture.supplyAsync(source, executor)
+                .orTimeout(callTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.error("Error fetching admin stats: {}", error.getMessage());
+                    }
+                });
+    }
+
+    private AdminStatsResponse countUsersByRole() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("role").count().as("count"));
+        AdminStatsResponse stats = new AdminStatsResponse();
+        long total = 0;
+        for (Document group : mongoTemplate.aggregate(aggregation, User.class, Document.class).getMappedResults()) {
+            long count = ((Number) group.get("count")).longValue();
+            total += count;
+            String role = group.getString("_id");
+            if ("ADMIN".equals(role)) {
+                stats.setTotalAdmins(count);
+            } else if ("RECRUITER".equals(role)) {
+                stats.setTotalRecruiters(count);
+            } else if ("USER".equals(role)) {
+                stats.setTotalApplicants(count);
+            }
+        }
+        stats.setTotalUsers(total);
+        return stats;
+    }
+
+    private AdminStatsResponse fetchJobStats() {
+        Map<String, Number> jobStats = restTemplate.exchange(
+                jobServiceUrl + "/api/v1/jobs/internal/stats", HttpMethod.GET, null, COUNTS).getBody();
+        AdminStatsResponse stats = new AdminStatsResponse();
+        stats.setTotalJobs(count(jobStats, "totalJobs"));
+        log.info("Retrieved job stats from job-service");
+        return stats;
+    }
+
+    private AdminStatsResponse fetchApplicationCounts() {
+        Map<String, Number> appStats = restTemplate.exchange(
+                applicationServiceUrl + "/api/v1/application/internal/counts", HttpMethod.GET, null, COUNTS).getBody();
+        AdminStatsResponse stats = new AdminStatsResponse();
+        stats.setPendingApplications(count(appStats, "pending"));
+        stats.setAcceptedApplications(count(appStats, "accepted"));
+        stats.setRejectedApplications(count(appStats, "rejected"));
+        log.info("Retrieved application stats from application-service");
+        return stats;
+    }
+
+    private static long count(Map<String, Number> values, String key) {
+        Number value = values != null ? values.get(key) : null;
+        return value != null ? value.longValue() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
 }
@@ -2,25 +2,33 @@ package com.jobportal.userservice.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PushbackInputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.UUID;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class FileUploadService {
 
-    @Value("${upload.dir:public/uploads/}")
-    private String uploadDir;
+    private final ResumeStorage resumeStorage;
 
     private static final String[] ALLOWED_EXTENSIONS = {"pdf", "doc", "docx"};
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
+    // application-service applies the same check; profile resumes are attached to applications by path
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+    private static final byte[] ZIP_MAGIC = {'P', 'K', 0x03, 0x04};
+    private static final byte[] OLE2_MAGIC = {(byte) 0xD0, (byte) 0xCF, 0x11, (byte) 0xE0,
+            (byte) 0xA1, (byte) 0xB1, 0x1A, (byte) 0xE1};
 
     public String uploadResume(MultipartFile file) throws IOException {
         if (file == null || file.isEmpty()) {
@@ -28,14 +36,30 @@ public class FileUploadService {
         }
 
         validateFile(file);
-        
-        String fileName = generateFileName(getFileExtension(file.getOriginalFilename()));
-        Path uploadPath = Paths.get(uploadDir);
-        Files.createDirectories(uploadPath);
-        
-        Path filePath = uploadPath.resolve(fileName);
-        Files.write(filePath, file.getBytes());
-        
+        String extension = getFileExtension(file.getOriginalFilename()).toLowerCase();
+
+        // Stream into a temp file on the uploads volume while hashing, then rename into the
+        // sharded layout under a content-addressed name. application-service names its uploads
+        // the same way, so the volume is one blob store both services can reference by path
+        Path tempFile = resumeStorage.createTempFile();
+        String fileName;
+        try (PushbackInputStream in = new PushbackInputStream(file.getInputStream(), OLE2_MAGIC.length)) {
+            validateMagicBytes(in, extension);
+
+            MessageDigest digest = sha256();
+            try (OutputStream out = new DigestOutputStream(Files.newOutputStream(tempFile), digest)) {
+                in.transferTo(out);
+            }
+            fileName = "resume-" + HexFormat.of().formatHex(digest.digest()) + "." + extension;
+            if (!resumeStorage.store(tempFile, fileName)) {
+                resumeStorage.markInUse(fileName);
+                log.info("Resume already stored, reusing {}", fileName);
+                return "/uploads/" + fileName;
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
         log.info("Resume uploaded successfully: {}", fileName);
         return "/uploads/" + fileName;
     }
@@ -59,6 +83,22 @@ public class FileUploadService {
         }
     }
 
+    private void validateMagicBytes(PushbackInputStream in, String extension) throws IOException {
+        byte[] head = in.readNBytes(OLE2_MAGIC.length);
+        in.unread(head);
+
+        byte[] expected = switch (extension) {
+            case "pdf" -> PDF_MAGIC;
+            case "docx" -> ZIP_MAGIC;
+            case "doc" -> OLE2_MAGIC;
+            default -> null;
+        };
+        if (expected == null || head.length < expected.length
+                || !Arrays.equals(head, 0, expected.length, expected, 0, expected.length)) {
+            throw new IllegalArgumentException("File content does not match its ." + extension + " extension");
+        }
+    }
+
     private String getFileExtension(String filename) {
         if (filename == null || !filename.contains(".")) {
             return "";
@@ -66,7 +106,11 @@ public class FileUploadService {
         return filename.substring(filename.lastIndexOf(".") + 1);
     }
 
-    private String generateFileName(String extension) {
-        return "resume-" + UUID.randomUUID() + "." + extension;
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
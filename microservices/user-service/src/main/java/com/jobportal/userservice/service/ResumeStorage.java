@@ -0,0 +1,133 @@
+package com.jobportal.userservice.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * Write side of the sharded uploads layout ({@code ab/cd/<name>}, from the SHA-256 of the
+ * file name). The shard function must stay identical to application-service's ResumeStorage,
+ * which reads these files and owns compression tiering on the shared volume.
+ */
+@Slf4j
+@Component
+public class ResumeStorage {
+
+    private static final String COMPRESSED_SUFFIX = ".gz";
+    private static final String TEMP_DIR = ".tmp";
+
+    private final Path root;
+    private final boolean migrateOnStartup;
+
+    public ResumeStorage(
+            @Value("${upload.dir:public/uploads/}") String uploadDir,
+            @Value("${resume-storage.migrate-on-startup:true}") boolean migrateOnStartup) {
+        this.root = Paths.get(uploadDir);
+        this.migrateOnStartup = migrateOnStartup;
+    }
+
+    public Path createTempFile() throws IOException {
+        Path tempDir = root.resolve(TEMP_DIR);
+        Files.createDirectories(tempDir);
+        return Files.createTempFile(tempDir, "upload-", ".part");
+    }
+
+    /**
+     * Atomically moves a finished temp file to its final sharded location.
+     * Returns false when a file with that name already exists, in which case the temp file is dropped.
+     */
+    public boolean store(Path tempFile, String fileName) throws IOException {
+        Path target = shardPath(fileName);
+        try {
+            if (Files.exists(target) || Files.exists(compressedPath(target))) {
+                return false;
+            }
+            Files.createDirectories(target.getParent());
+            Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Marks an already stored file as freshly written, so the orphan sweep in application-service
+     * (which skips recent files) cannot remove it right after a profile started pointing at it.
+     */
+    public void markInUse(String fileName) throws IOException {
+        Path target = shardPath(fileName);
+        FileTime now = FileTime.from(Instant.now());
+        try {
+            Files.setLastModifiedTime(target, now);
+        } catch (NoSuchFileException e) {
+            Files.setLastModifiedTime(compressedPath(target), now);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateFlatLayout() {
+        if (!migrateOnStartup || !Files.isDirectory(root)) {
+            return;
+        }
+        int moved = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(root, Files::isRegularFile)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (name.startsWith(".") || name.endsWith(".part")) {
+                    continue;
+                }
+                Path target = shardPath(name);
+                try {
+                    Files.createDirectories(target.getParent());
+                    if (Files.exists(target)) {
+                        Files.deleteIfExists(file);
+                    } else {
+                        Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+                        moved++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // Migrated concurrently by application-service
+                }
+            }
+        } catch (IOException e) {
+            log.error("Error migrating flat upload directory: {}", e.getMessage());
+        }
+        if (moved > 0) {
+            log.info("Migrated {} uploads into the sharded layout", moved);
+        }
+    }
+
+    Path shardPath(String fileName) {
+        String name = Paths.get(fileName).getFileName().toString();
+        String shard = HexFormat.of().formatHex(sha256().digest(name.getBytes(StandardCharsets.UTF_8)), 0, 2);
+        return root.resolve(shard.substring(0, 2)).resolve(shard.substring(2, 4)).resolve(name);
+    }
+
+    private static Path compressedPath(Path file) {
+        return file.resolveSibling(file.getFileName() + COMPRESSED_SUFFIX);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,17 +1,36 @@
 package com.jobportal.userservice.service;
 
 import com.jobportal.userservice.dto.UpdateProfileRequest;
+import com.jobportal.userservice.dto.UserListItem;
+import com.jobportal.userservice.dto.UserPage;
 import com.jobportal.userservice.dto.UserResponse;
 import com.jobportal.userservice.model.User;
 import com.jobportal.userservice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -21,6 +40,10 @@ public class UserService {
     private final UserRepository userRepository;
     private final FileUploadService fileUploadService;
     private final RestTemplate restTemplate;
+    private final MongoTemplate mongoTemplate;
+
+    private static final String[] LIST_FIELDS = {"username", "email", "role", "location", "gender"};
+    private static final long MAX_USER_OFFSET = 10_000;
 
     @Value("${service.urls.job:http://localhost:3003}")
     private String jobServiceUrl;
@@ -58,11 +81,128 @@ public class UserService {
         return mapToResponse(user);
     }
 
-    public List<UserResponse> getAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public void writeResumePaths(OutputStream out) throws IOException {
+        // Cursor-backed stream, one path per line, so the referencing side never
+        // needs the whole user collection in memory on either end
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<User> users = userRepository.streamResumePaths()) {
+            for (User user : (Iterable<User>) users::iterator) {
+                writer.write(user.getResume());
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * One page of the admin user table, newest first. With {@code page} it is an offset page
+     * with a total count; otherwise it pages by keyset on _id using {@code cursor}. Only the
+     * table's columns are read, and at most {@code size + 1} documents are materialized.
+     */
+    public UserPage listUsers(String role, String search, Integer page, String cursor, int size) {
+        if (page != null && (long) page * size > MAX_USER_OFFSET) {
+            throw new IllegalArgumentException("Page is too deep, use the cursor instead");
+        }
+        Criteria filter = userFilter(role, search);
+        Criteria criteria = filter;
+        String after = decodeCursor(cursor);
+        if (page == null && after != null) {
+            criteria = new Criteria().andOperator(filter, Criteria.where("_id").lt(after));
+        }
+
+        Query query = new Query(criteria).with(Sort.by(Sort.Direction.DESC, "_id")).limit(size + 1);
+        if (page != null) {
+            query.skip((long) page * size);
+        }
+        query.fields().include(LIST_FIELDS);
+        List<User> users = mongoTemplate.find(query, User.class);
+
+        boolean hasMore = users.size() > size;
+        List<User> content = hasMore ? users.subList(0, size) : users;
+        String nextCursor = hasMore ? encodeCursor(content.get(content.size() - 1).getId()) : null;
+        Long total = page != null ? mongoTemplate.count(new Query(filter), User.class) : null;
+        return new UserPage(content.stream().map(UserService::toListItem).collect(Collectors.toList()),
+                size, page, total, nextCursor, hasMore);
+    }
+
+    public void exportUsers(String role, String search, OutputStream out) throws IOException {
+        Query query = new Query(userFilter(role, search)).cursorBatchSize(500);
+        query.fields().include(LIST_FIELDS).include("createdAt");
+
+        // Cursor-backed, one row at a time, so a full dump never holds the collection in memory
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("id,username,email,role,location,gender,createdAt\n");
+        try (Stream<User> users = mongoTemplate.stream(query, User.class)) {
+            for (User user : (Iterable<User>) users::iterator) {
+                writer.write(String.join(",",
+                        csv(user.getId()), csv(user.getUsername()), csv(user.getEmail()), csv(user.getRole()),
+                        csv(user.getLocation()), csv(user.getGender()),
+                        csv(user.getCreatedAt() != null ? user.getCreatedAt().toString() : null)));
+                writer.write('\n');
+            }
+        }
+        writer.flush();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(User.class);
+            indexOps.ensureIndex(new Index().on("role", Sort.Direction.ASC).on("_id", Sort.Direction.DESC)
+                    .named("role_id_idx"));
+            indexOps.ensureIndex(new Index().on("username", Sort.Direction.ASC).named("username_idx"));
+        } catch (Exception e) {
+            log.error("Error ensuring user listing indexes: {}", e.getMessage());
+        }
+    }
+
+    // Role equality and anchored, case-sensitive prefixes, so each branch is an index range scan
+    private static Criteria userFilter(String role, String search) {
+        List<Criteria> conditions = new ArrayList<>();
+        if (role != null && !role.isBlank()) {
+            conditions.add(Criteria.where("role").is(role.trim().toUpperCase()));
+        }
+        if (search != null && !search.isBlank()) {
+            String prefix = search.trim();
+            conditions.add(new Criteria().orOperator(
+                    Criteria.where("email").regex("^" + escapeRegex(prefix.toLowerCase())),
+                    Criteria.where("username").regex("^" + escapeRegex(prefix))));
+        }
+        return conditions.isEmpty() ? new Criteria() : new Criteria().andOperator(conditions);
+    }
+
+    private static String escapeRegex(String value) {
+        return value.replaceAll("[^A-Za-z0-9 _@-]", "\\\\$0");
+    }
+
+    private static String encodeCursor(String id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(id.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private static UserListItem toListItem(User user) {
+        return new UserListItem(user.getId(), user.getUsername(), user.getEmail(), user.getRole(),
+                user.getLocation(), user.getGender());
     }
 
     public void deleteUser(String userId) {
@@ -71,7 +211,7 @@ public class UserService {
 
         // Call job-service to delete all jobs by this user
         try {
-            String url = jobServiceUrl + "/internal/jobs/user/" + userId;
+            String url = jobServiceUrl + "/api/v1/jobs/internal/user/" + userId;
             restTemplate.delete(url);
             log.info("Deleted jobs for user: {}", userId);
         } catch (Exception e) {